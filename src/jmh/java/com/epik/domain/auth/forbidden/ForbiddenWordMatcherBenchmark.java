@@ -0,0 +1,115 @@
+package com.epik.domain.auth.forbidden;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 닉네임 금칙어 검사 벤치마크
+ *
+ * - containsLoop*: 기존 방식 (금칙어마다 String.contains)
+ * - matcher*: ForbiddenWordMatcher (Aho-Corasick)
+ * - normalized*: ForbiddenWordNormalizer 정규화 + 매처 (실제 닉네임 검사 경로)
+ * 금칙어 목록 크기별로 통과(금칙어 없음)와 적중(마지막 금칙어 포함) 닉네임을 검사한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ForbiddenWordMatcherBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int wordCount;
+
+    private List<String> words;
+    private ForbiddenWordMatcher matcher;
+    private ForbiddenWordNormalizer normalizer;
+    private ForbiddenWordMatcher normalizedMatcher;
+    private String cleanNickname;
+    private String forbiddenNickname;
+
+    @Setup
+    public void setUp() {
+        words = ForbiddenWords.generate(wordCount, new Random(42));
+        matcher = ForbiddenWordMatcher.compile(words);
+        normalizer = new ForbiddenWordNormalizer(false);
+        normalizedMatcher = ForbiddenWordMatcher.compile(words.stream().map(normalizer::normalize).toList());
+
+        cleanNickname = "행복한팝업러버";
+        forbiddenNickname = "팝업" + words.get(words.size() - 1) + "러버";
+    }
+
+    @Benchmark
+    public boolean containsLoopClean() {
+        return containsLoop(cleanNickname);
+    }
+
+    @Benchmark
+    public boolean containsLoopForbidden() {
+        return containsLoop(forbiddenNickname);
+    }
+
+    @Benchmark
+    public boolean matcherClean() {
+        return matcher.containsAny(cleanNickname);
+    }
+
+    @Benchmark
+    public boolean matcherForbidden() {
+        return matcher.containsAny(forbiddenNickname);
+    }
+
+    @Benchmark
+    public boolean normalizedClean() {
+        return normalizer.containsForbiddenWord(normalizedMatcher, cleanNickname);
+    }
+
+    @Benchmark
+    public boolean normalizedForbidden() {
+        return normalizer.containsForbiddenWord(normalizedMatcher, forbiddenNickname);
+    }
+
+    private boolean containsLoop(String nickname) {
+        for (String word : words) {
+            if (nickname.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 벤치마크용 금칙어 생성 (2~4글자 한글 + 일부 영문)
+     */
+    static final class ForbiddenWords {
+
+        private ForbiddenWords() {
+        }
+
+        static List<String> generate(int count, Random random) {
+            List<String> words = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int length = 2 + random.nextInt(3);
+                StringBuilder word = new StringBuilder(length);
+                for (int j = 0; j < length; j++) {
+                    if (i % 5 == 0) {
+                        word.append((char) ('a' + random.nextInt(26)));
+                    } else {
+                        word.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+                    }
+                }
+                words.add(word.toString());
+            }
+            return words;
+        }
+    }
+}
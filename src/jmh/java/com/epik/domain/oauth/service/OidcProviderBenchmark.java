@@ -0,0 +1,75 @@
+package com.epik.domain.oauth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AbstractOidcProvider의 ID Token 전처리 벤치마크
+ * - extractKidFromToken: 헤더 split + Base64 디코딩 + Jackson 파싱
+ * - generateRSAPublicKey: JWKS의 n, e로 RSA 공개키 생성 (매 로그인마다 수행)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OidcProviderBenchmark {
+
+    private AbstractOidcProvider provider;
+    private String idToken;
+    private String modulus;
+    private String exponent;
+
+    @Setup
+    public void setUp() throws Exception {
+        provider = new KakaoOidcProvider(null, new ObjectMapper(), "https://kauth.kakao.com", "app-id");
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString(
+                "{\"kid\":\"9f252dadd5f233f93d2fa528d12fea\",\"typ\":\"JWT\",\"alg\":\"RS256\"}"
+                        .getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(
+                ("{\"aud\":\"app-id\",\"sub\":\"1234567890\",\"auth_time\":1700000000,"
+                        + "\"iss\":\"https://kauth.kakao.com\",\"exp\":1700021600,\"iat\":1700000000,"
+                        + "\"email\":\"user@epik.com\"}").getBytes(StandardCharsets.UTF_8));
+        idToken = header + "." + payload + "." + encoder.encodeToString(new byte[256]);
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        RSAPublicKey publicKey = (RSAPublicKey) generator.generateKeyPair().getPublic();
+        modulus = encoder.encodeToString(toUnsigned(publicKey.getModulus()));
+        exponent = encoder.encodeToString(toUnsigned(publicKey.getPublicExponent()));
+    }
+
+    @Benchmark
+    public String extractKidFromToken() {
+        return provider.extractKidFromToken(idToken);
+    }
+
+    @Benchmark
+    public PublicKey generateRSAPublicKey() {
+        return provider.generateRSAPublicKey(modulus, exponent);
+    }
+
+    private static byte[] toUnsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] unsigned = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, unsigned, 0, unsigned.length);
+            return unsigned;
+        }
+        return bytes;
+    }
+}
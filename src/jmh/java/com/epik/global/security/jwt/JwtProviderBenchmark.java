@@ -0,0 +1,108 @@
+package com.epik.global.security.jwt;
+
+import com.epik.domain.auth.entity.enums.UserRole;
+import com.epik.domain.oauth.dto.enums.SocialProvider;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtProvider 토큰 생성/검증 벤치마크
+ *
+ * - create*: Access / Register Token 생성
+ * - parseAccessToken: 필터가 사용하는 경로 (HS256이면 AccessTokenCodec, ES256이면 jjwt)
+ * - jjwtAccessToken: 같은 Access Token을 jjwt 범용 파서로 검증 (코덱과 비교용)
+ * - legacyFilterPath: 기존 필터의 validateToken + getUserId + getRole (서명 검증 3회)
+ * - cachedAccessToken: AccessTokenCache 적중 시 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtProviderBenchmark {
+
+    private static final long ACCESS_TOKEN_EXPIRATION = 1_800_000L;
+
+    @Param({"HS256", "ES256"})
+    public String algorithm;
+
+    private JwtProvider jwtProvider;
+    private AccessTokenCache accessTokenCache;
+
+    private String accessToken;
+    private String registerToken;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtSigningKeyRing keyRing = new JwtSigningKeyRing(
+                new JwtSigningProperties(algorithm, null, true, Duration.ofHours(24), null),
+                meterRegistry,
+                ACCESS_TOKEN_EXPIRATION);
+
+        jwtProvider = new JwtProvider(
+                Base64.getEncoder().encodeToString(secret),
+                ACCESS_TOKEN_EXPIRATION,
+                900_000L,
+                keyRing);
+        accessTokenCache = new AccessTokenCache(jwtProvider, meterRegistry, true, 100_000);
+
+        accessToken = jwtProvider.createAccessToken(1L, UserRole.ROLE_USER).token();
+        registerToken = jwtProvider.createRegisterToken(SocialProvider.KAKAO, "1234567890", "user@epik.com").token();
+
+        accessTokenCache.getOrVerify(accessToken);
+    }
+
+    @Benchmark
+    public IssuedToken createAccessToken() {
+        return jwtProvider.createAccessToken(1L, UserRole.ROLE_USER);
+    }
+
+    @Benchmark
+    public IssuedToken createRegisterToken() {
+        return jwtProvider.createRegisterToken(SocialProvider.KAKAO, "1234567890", "user@epik.com");
+    }
+
+    @Benchmark
+    public AuthenticatedPrincipal parseAccessToken() {
+        return jwtProvider.parseAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public Claims jjwtAccessToken() {
+        return jwtProvider.validateAndGetClaims(accessToken);
+    }
+
+    @Benchmark
+    public String legacyFilterPath() {
+        if (!jwtProvider.validateToken(accessToken)) {
+            return null;
+        }
+        Long userId = jwtProvider.getUserId(accessToken);
+        return jwtProvider.getRole(accessToken) + userId;
+    }
+
+    @Benchmark
+    public AuthenticatedPrincipal cachedAccessToken() {
+        return accessTokenCache.getOrVerify(accessToken);
+    }
+
+    @Benchmark
+    public Claims validateRegisterToken() {
+        return jwtProvider.validateAndGetClaims(registerToken);
+    }
+}
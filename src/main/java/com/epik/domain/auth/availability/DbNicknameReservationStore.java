@@ -0,0 +1,60 @@
+package com.epik.domain.auth.availability;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 다중 노드용 닉네임 선점 저장소 (nickname_reservations 테이블).
+ *
+ * INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 삽입/갱신해서, 동시에 선점하더라도 PK로 한 요청만 성공한다.
+ * (UPDATE 후 INSERT IGNORE로 나누면 두 요청이 갭 락/공유 락을 잡은 채 서로의 배타 락을 기다려 데드락이 난다)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.nickname-reservation.store", havingValue = "database")
+@RequiredArgsConstructor
+public class DbNicknameReservationStore implements NicknameReservationStore {
+
+    private final NicknameReservationRepository nicknameReservationRepository;
+
+    @Override
+    @Transactional
+    public boolean reserve(String nicknameKey, String nonce, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(ttl);
+
+        int affected = nicknameReservationRepository.upsert(nicknameKey, nonce, expiresAt, now);
+        if (affected != 1) {
+            return affected == 2;
+        }
+        // 1은 삽입일 수도, (CLIENT_FOUND_ROWS 연결에서) 다른 nonce의 선점을 그대로 둔 것일 수도 있다
+        return nonce.equals(nicknameReservationRepository.findNonceForUpdate(nicknameKey));
+    }
+
+    @Override
+    public boolean isHeldByOther(String nicknameKey, String nonce) {
+        return nicknameReservationRepository.existsHeldByOther(nicknameKey, nonce, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public void release(String nicknameKey, String nonce) {
+        nicknameReservationRepository.deleteByNicknameKeyAndNonce(nicknameKey, nonce);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.nickname-reservation.cleanup-interval:60000}")
+    @Transactional
+    public void evictExpired() {
+        int deleted = nicknameReservationRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.debug("[NicknameReservation] 만료된 선점 {}건 삭제", deleted);
+        }
+    }
+}
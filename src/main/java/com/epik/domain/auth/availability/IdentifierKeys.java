@@ -0,0 +1,38 @@
+package com.epik.domain.auth.availability;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 이메일/닉네임 비교용 키.
+ *
+ * DB 콜레이션(대소문자/악센트 무시)과 같은 값끼리 같은 키가 되도록 소문자 + 결합 문자 제거 후 NFC로 합친다.
+ */
+public final class IdentifierKeys {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private IdentifierKeys() {
+    }
+
+    public static String of(String value) {
+        String lower = value.toLowerCase(Locale.ROOT);
+        if (isAsciiOrHangulSyllables(lower)) {
+            // 대부분의 이메일/닉네임 (결합 문자가 없음)
+            return lower;
+        }
+        String stripped = COMBINING_MARKS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+        return Normalizer.normalize(stripped, Normalizer.Form.NFC);
+    }
+
+    private static boolean isAsciiOrHangulSyllables(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80 && (c < 0xAC00 || c > 0xD7A3)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,117 @@
+package com.epik.domain.auth.availability;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 단일 노드용 닉네임 선점 저장소.
+ *
+ * 키 해시로 고른 stripe 단위로만 잠가서 서로 다른 닉네임의 선점은 경합하지 않는다.
+ * 만료된 엔트리는 조회 시점에 무시하고, 스케줄러가 주기적으로 제거한다.
+ * 엔트리 수는 maxEntries로 제한한다. 가득 차면 새 닉네임은 선점하지 않고 true를 반환한다.
+ * (다른 사람의 선점만 확인하는 nonce 없는 요청과 같아지고, 힙은 더 늘지 않는다)
+ */
+@Component
+@ConditionalOnProperty(name = "auth.nickname-reservation.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryNicknameReservationStore implements NicknameReservationStore {
+
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final int maxEntries;
+    private final AtomicInteger size = new AtomicInteger();
+
+    public InMemoryNicknameReservationStore(@Value("${auth.nickname-reservation.max-entries:100000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public boolean reserve(String nicknameKey, String nonce, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Stripe stripe = stripeFor(nicknameKey);
+
+        synchronized (stripe) {
+            Reservation current = stripe.reservations.get(nicknameKey);
+            if (current != null && current.isValid(now) && !current.nonce().equals(nonce)) {
+                return false;
+            }
+            if (current == null) {
+                if (size.get() >= maxEntries) {
+                    return true;
+                }
+                size.incrementAndGet();
+            }
+            stripe.reservations.put(nicknameKey, new Reservation(nonce, now + ttl.toMillis()));
+            return true;
+        }
+    }
+
+    @Override
+    public boolean isHeldByOther(String nicknameKey, String nonce) {
+        long now = System.currentTimeMillis();
+        Stripe stripe = stripeFor(nicknameKey);
+
+        synchronized (stripe) {
+            Reservation current = stripe.reservations.get(nicknameKey);
+            return current != null && current.isValid(now) && !current.nonce().equals(nonce);
+        }
+    }
+
+    @Override
+    public void release(String nicknameKey, String nonce) {
+        Stripe stripe = stripeFor(nicknameKey);
+
+        synchronized (stripe) {
+            Reservation current = stripe.reservations.get(nicknameKey);
+            if (current != null && current.nonce().equals(nonce)) {
+                stripe.reservations.remove(nicknameKey);
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 만료된 선점을 제거한다. (stripe 하나씩 잠그므로 전체를 멈추지 않는다)
+     */
+    @Scheduled(fixedDelayString = "${auth.nickname-reservation.cleanup-interval:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                int before = stripe.reservations.size();
+                stripe.reservations.values().removeIf(reservation -> !reservation.isValid(now));
+                size.addAndGet(stripe.reservations.size() - before);
+            }
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private Stripe stripeFor(String nicknameKey) {
+        int hash = nicknameKey.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Stripe {
+        private final Map<String, Reservation> reservations = new HashMap<>();
+    }
+
+    private record Reservation(String nonce, long expiresAtMillis) {
+
+        boolean isValid(long now) {
+            return expiresAtMillis > now;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.epik.domain.auth.availability;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다중 노드용 닉네임 선점 (DbNicknameReservationStore에서 사용)
+ */
+@Getter
+@Entity
+@Table(
+        name = "nickname_reservations",
+        indexes = @Index(name = "idx_nickname_reservations_expires_at", columnList = "expires_at")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NicknameReservation {
+
+    // IdentifierKeys로 정규화된 닉네임
+    @Id
+    @Column(name = "nickname_key", length = 64)
+    private String nicknameKey;
+
+    @Column(name = "nonce", nullable = false, length = 64)
+    private String nonce;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
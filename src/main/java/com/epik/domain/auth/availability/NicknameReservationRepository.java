@@ -0,0 +1,50 @@
+package com.epik.domain.auth.availability;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface NicknameReservationRepository extends JpaRepository<NicknameReservation, String> {
+
+    // 선점이 없으면 삽입, 같은 nonce의 선점이거나 만료된 선점이면 소유자와 만료 시각을 갱신 (한 문장으로 행 X 락만 잡는다)
+    // 대입은 왼쪽부터 평가되므로 expires_at의 조건은 방금 갱신된 nonce를 본다
+    // 영향받은 행: 1 = 삽입, 2 = 갱신, 0 = 다른 nonce의 선점이라 그대로 둠 (CLIENT_FOUND_ROWS 연결에서는 1)
+    @Modifying
+    @Query(value = """
+        INSERT INTO nickname_reservations (nickname_key, nonce, expires_at)
+        VALUES (:nicknameKey, :nonce, :expiresAt)
+        ON DUPLICATE KEY UPDATE
+            nonce = IF(nonce = VALUES(nonce) OR expires_at <= :now, VALUES(nonce), nonce),
+            expires_at = IF(nonce = VALUES(nonce), VALUES(expires_at), expires_at)
+    """, nativeQuery = true)
+    int upsert(@Param("nicknameKey") String nicknameKey,
+               @Param("nonce") String nonce,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now);
+
+    // upsert 직후 같은 트랜잭션에서 현재 소유자 확인 (upsert가 잡은 락으로 최신 값을 읽는다)
+    @Query(value = "SELECT nonce FROM nickname_reservations WHERE nickname_key = :nicknameKey FOR UPDATE", nativeQuery = true)
+    String findNonceForUpdate(@Param("nicknameKey") String nicknameKey);
+
+    @Query("""
+        SELECT COUNT(r) > 0
+        FROM NicknameReservation r
+        WHERE r.nicknameKey = :nicknameKey
+          AND r.expiresAt > :now
+          AND (:nonce IS NULL OR r.nonce <> :nonce)
+    """)
+    boolean existsHeldByOther(@Param("nicknameKey") String nicknameKey,
+                              @Param("nonce") String nonce,
+                              @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM NicknameReservation r WHERE r.nicknameKey = :nicknameKey AND r.nonce = :nonce")
+    int deleteByNicknameKeyAndNonce(@Param("nicknameKey") String nicknameKey, @Param("nonce") String nonce);
+
+    @Modifying
+    @Query("DELETE FROM NicknameReservation r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,30 @@
+package com.epik.domain.auth.availability;
+
+import java.time.Duration;
+
+/**
+ * 닉네임 임시 선점 저장소.
+ *
+ * 키는 IdentifierKeys로 정규화된 닉네임, 소유자는 클라이언트가 만든 nonce이다.
+ * 만료된 선점은 없는 것으로 취급한다.
+ */
+public interface NicknameReservationStore {
+
+    /**
+     * 닉네임을 선점한다. 같은 nonce로 이미 선점했거나 만료된 선점이면 갱신한다.
+     *
+     * @return 선점에 성공했으면 true, 다른 nonce가 선점 중이면 false
+     */
+    boolean reserve(String nicknameKey, String nonce, Duration ttl);
+
+    /**
+     * @param nonce 요청자의 nonce (없으면 null)
+     * @return 다른 nonce가 유효한 선점을 가지고 있으면 true
+     */
+    boolean isHeldByOther(String nicknameKey, String nonce);
+
+    /**
+     * nonce가 가진 선점을 해제한다. (회원가입 완료 후)
+     */
+    void release(String nicknameKey, String nonce);
+}
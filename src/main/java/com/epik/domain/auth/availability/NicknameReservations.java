@@ -0,0 +1,97 @@
+package com.epik.domain.auth.availability;
+
+import com.epik.domain.auth.throttle.TokenBucketTable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 닉네임 사용 가능 확인 ~ 회원가입 사이의 임시 선점.
+ *
+ * 사용 가능 확인에 성공하면 클라이언트 nonce로 닉네임을 ttl 동안 잡아두고,
+ * 회원가입은 다른 nonce가 잡고 있는 닉네임을 거절한다. (bcrypt 해싱, INSERT 실패, 재시도 방지)
+ * nonce를 보내지 않는 클라이언트는 선점하지 않지만, 다른 사람의 선점은 그대로 적용된다.
+ *
+ * 확인 API는 공개되어 있으므로 nonce만 바꿔가며 닉네임을 쓸어 담지 못하도록 클라이언트 IP별 토큰 버킷으로
+ * 선점 횟수를 제한한다. 한도를 넘긴 요청은 nonce 없는 요청처럼 선점 없이 확인만 한다.
+ *
+ * 저장소는 auth.nickname-reservation.store로 선택한다. (memory: 단일 노드, database: 다중 노드)
+ */
+@Component
+public class NicknameReservations {
+
+    private final NicknameReservationStore store;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final TokenBucketTable clientBuckets;
+
+    public NicknameReservations(NicknameReservationStore store,
+                                @Value("${auth.nickname-reservation.enabled:false}") boolean enabled,
+                                @Value("${auth.nickname-reservation.ttl:5m}") Duration ttl,
+                                @Value("${auth.nickname-reservation.per-client.capacity:10}") int perClientCapacity,
+                                @Value("${auth.nickname-reservation.per-client.refill-interval:30s}") Duration perClientRefillInterval) {
+        this.store = store;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.clientBuckets = new TokenBucketTable(perClientCapacity, perClientRefillInterval,
+                Duration.ofSeconds(1), System.nanoTime());
+    }
+
+    /**
+     * 닉네임을 선점한다. 기능이 꺼져 있거나 nonce가 없거나 클라이언트의 선점 한도를 넘었으면
+     * 다른 사람의 선점 여부만 확인한다.
+     *
+     * @param clientIp 요청 클라이언트 IP (선점 횟수 제한 키)
+     * @return 다른 nonce가 선점 중이면 false
+     */
+    public boolean tryReserve(String nickname, String nonce, String clientIp) {
+        if (!enabled) {
+            return true;
+        }
+        String key = IdentifierKeys.of(nickname);
+        if (nonce == null || clientBuckets.tryAcquire(clientIp, System.nanoTime()) > 0) {
+            return !store.isHeldByOther(key, nonce);
+        }
+        return store.reserve(key, nonce, ttl);
+    }
+
+    /**
+     * @return 다른 nonce가 선점 중인 닉네임이면 true
+     */
+    public boolean isHeldByOther(String nickname, String nonce) {
+        return enabled && store.isHeldByOther(IdentifierKeys.of(nickname), nonce);
+    }
+
+    /**
+     * 회원가입이 끝난 닉네임의 선점을 해제한다.
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 해제한다. (롤백되면 선점을 그대로 유지)
+     */
+    public void releaseAfterCommit(String nickname, String nonce) {
+        if (!enabled || nonce == null) {
+            return;
+        }
+        String key = IdentifierKeys.of(nickname);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            store.release(key, nonce);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                store.release(key, nonce);
+            }
+        });
+    }
+
+    /**
+     * 가득 찬 클라이언트 버킷을 정리한다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void sweep() {
+        clientBuckets.sweep(System.nanoTime());
+    }
+}
@@ -0,0 +1,230 @@
+package com.epik.domain.auth.availability;
+
+import com.epik.domain.auth.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 이메일/닉네임 사용 가능 여부 확인용 Bloom Filter (negative cache).
+ *
+ * 회원가입 화면에서 입력할 때마다 호출되는 중복 확인의 대부분은 "사용 가능"이다.
+ * Bloom Filter에 없다고 나오면 DB를 조회하지 않고 바로 사용 가능으로 응답하고,
+ * "있을 수도 있음"인 경우에만 DB로 확인한다.
+ *
+ * - 시작 시 users 테이블을 스트리밍으로 한 번 읽어 채우고, 이 노드에서 가입하면 바로 추가한다.
+ * - 다른 노드에서 가입한 사용자는 sync-interval마다 마지막으로 읽은 id 이후를 읽어 추가한다.
+ *   pooled id는 노드별로 블록을 나눠 쓰므로 작은 id가 늦게 커밋될 수 있어 id-lookback만큼 겹쳐 읽는다.
+ * - 그래도 놓친 값은 rebuild-interval마다 새 필터로 다시 적재해서 바로잡는다. (오탐이 쌓인 비트도 정리)
+ * - 적재가 끝나기 전에는 항상 "있을 수도 있음"을 반환한다. (DB 조회)
+ * - 키는 DB 콜레이션(대소문자/악센트 무시)에 맞춰 IdentifierKeys로 만든다.
+ */
+@Slf4j
+@Component
+public class UserIdentifierFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long idLookback;
+
+    private volatile Filters filters;
+    private volatile boolean ready;
+    private long lastLoadedId;
+
+    private final LongAdder emailNegatives = new LongAdder();
+    private final LongAdder emailFalsePositives = new LongAdder();
+    private final LongAdder nicknameNegatives = new LongAdder();
+    private final LongAdder nicknameFalsePositives = new LongAdder();
+
+    public UserIdentifierFilter(UserRepository userRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${auth.availability.bloom-filter.enabled:true}") boolean enabled,
+                                @Value("${auth.availability.bloom-filter.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${auth.availability.bloom-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${auth.availability.bloom-filter.id-lookback:5000}") long idLookback) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.idLookback = idLookback;
+        this.filters = newFilters();
+
+        registerMetrics(meterRegistry, "email", Filters::emails, emailNegatives, emailFalsePositives);
+        registerMetrics(meterRegistry, "nickname", Filters::nicknames, nicknameNegatives, nicknameFalsePositives);
+    }
+
+    /**
+     * 시작 시 users 테이블 전체를 스트리밍으로 읽어 Bloom Filter를 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * 새 필터에 users 테이블 전체를 다시 적재한 뒤 교체한다. 교체 전까지는 기존 필터로 응답한다.
+     */
+    @Scheduled(
+            initialDelayString = "${auth.availability.bloom-filter.rebuild-interval:6h}",
+            fixedDelayString = "${auth.availability.bloom-filter.rebuild-interval:6h}"
+    )
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        Filters rebuilt = newFilters();
+        long count = loadAfter(rebuilt, 0);
+        filters = rebuilt;
+        ready = true;
+
+        // 적재 중 이 노드에서 가입해 기존 필터에만 들어간 값은 바로 이어지는 증분 적재로 옮긴다
+        syncRecent();
+
+        log.info("[Availability] Bloom Filter 적재 완료 - 사용자: {}명, {}ms, 메모리: {}KB x 2",
+                count, System.currentTimeMillis() - startedAt, rebuilt.emails().memoryBytes() / 1024);
+    }
+
+    /**
+     * 마지막으로 읽은 id 이후(id-lookback만큼 겹쳐서)에 가입한 사용자를 추가한다.
+     */
+    @Scheduled(fixedDelayString = "${auth.availability.bloom-filter.sync-interval:30000}")
+    public synchronized void syncRecent() {
+        if (!enabled || !ready) {
+            return;
+        }
+
+        long count = loadAfter(filters, Math.max(0, lastLoadedId - idLookback));
+        log.debug("[Availability] Bloom Filter 증분 적재 - 사용자: {}명, lastLoadedId={}", count, lastLoadedId);
+    }
+
+    /**
+     * @return false면 사용 중이 아닌 이메일 (DB 조회 불필요)
+     */
+    public boolean mightContainEmail(String email) {
+        if (!ready) {
+            return true;
+        }
+        boolean result = filters.emails().mightContain(IdentifierKeys.of(email));
+        if (!result) {
+            emailNegatives.increment();
+        }
+        return result;
+    }
+
+    /**
+     * @return false면 사용 중이 아닌 닉네임 (DB 조회 불필요)
+     */
+    public boolean mightContainNickname(String nickname) {
+        if (!ready) {
+            return true;
+        }
+        boolean result = filters.nicknames().mightContain(IdentifierKeys.of(nickname));
+        if (!result) {
+            nicknameNegatives.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Bloom Filter는 "있을 수도 있음"이었지만 DB에는 없었던 경우 (오탐률 측정용)
+     */
+    public void recordEmailFalsePositive() {
+        emailFalsePositives.increment();
+    }
+
+    public void recordNicknameFalsePositive() {
+        nicknameFalsePositives.increment();
+    }
+
+    /**
+     * 가입한 사용자의 이메일/닉네임을 추가한다.
+     * 트랜잭션이 롤백되어도 오탐으로만 남으므로 커밋 전에 추가해도 된다.
+     */
+    public void add(String email, String nickname) {
+        filters.add(email, nickname);
+    }
+
+    // ========== Private (내부용) ==========
+
+    /**
+     * afterId보다 큰 id의 사용자를 filters에 추가하고 lastLoadedId를 갱신한다.
+     *
+     * @return 읽은 사용자 수
+     */
+    private long loadAfter(Filters target, long afterId) {
+        long[] maxId = {afterId};
+        long count = readOnlyTransaction.execute(status -> {
+            try (Stream<UserIdentifiers> identifiers = userRepository.streamIdentifiersAfter(afterId)) {
+                return identifiers
+                        .peek(identifier -> {
+                            target.add(identifier.email(), identifier.nickname());
+                            maxId[0] = Math.max(maxId[0], identifier.id());
+                        })
+                        .count();
+            }
+        });
+        lastLoadedId = Math.max(lastLoadedId, maxId[0]);
+        return count;
+    }
+
+    private Filters newFilters() {
+        return new Filters(
+                new BloomFilter(expectedInsertions, falsePositiveRate),
+                new BloomFilter(expectedInsertions, falsePositiveRate)
+        );
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry, String type, Function<Filters, BloomFilter> filter,
+                                 LongAdder negatives, LongAdder falsePositives) {
+        Gauge.builder("auth.availability.bloom.expected_fpp", this,
+                        self -> filter.apply(self.filters).expectedFalsePositiveRate())
+                .description("채워진 비트 비율로 계산한 오탐률 추정치")
+                .tag("type", type)
+                .register(meterRegistry);
+        Gauge.builder("auth.availability.bloom.memory", this, self -> filter.apply(self.filters).memoryBytes())
+                .description("Bloom Filter 비트 배열 크기")
+                .baseUnit("bytes")
+                .tag("type", type)
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.availability.bloom.negatives", negatives, LongAdder::sum)
+                .description("DB 조회 없이 사용 가능으로 응답한 횟수")
+                .tag("type", type)
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.availability.bloom.false_positives", falsePositives, LongAdder::sum)
+                .description("있을 수도 있음이었지만 DB에 없었던 횟수")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private record Filters(BloomFilter emails, BloomFilter nicknames) {
+
+        void add(String email, String nickname) {
+            if (email != null) {
+                emails.put(IdentifierKeys.of(email));
+            }
+            if (nickname != null) {
+                nicknames.put(IdentifierKeys.of(nickname));
+            }
+        }
+    }
+}
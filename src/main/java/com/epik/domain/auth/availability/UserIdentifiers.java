@@ -0,0 +1,15 @@
+package com.epik.domain.auth.availability;
+
+/**
+ * Bloom Filter 적재용 사용자 식별자 프로젝션
+ *
+ * @param id       사용자 식별자 (증분 적재 위치)
+ * @param email    이메일 (소셜 가입자는 null일 수 있음)
+ * @param nickname 닉네임
+ */
+public record UserIdentifiers(
+        Long id,
+        String email,
+        String nickname
+) {
+}
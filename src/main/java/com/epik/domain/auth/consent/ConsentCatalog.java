@@ -0,0 +1,135 @@
+package com.epik.domain.auth.consent;
+
+import com.epik.domain.auth.entity.ConsentItem;
+import com.epik.domain.auth.entity.enums.ConsentItemCode;
+import com.epik.domain.auth.repository.ConsentItemRepository;
+import com.epik.global.exception.ErrorCode;
+import com.epik.global.exception.custom.BusinessException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 활성 약관 항목 카탈로그.
+ *
+ * 회원가입마다 약관 코드별로 consent_items를 조회하던 것을, 코드별 활성 항목의 불변 스냅샷으로 대체한다.
+ * - 주기적으로 count/max(id)/max(updated_at)만 조회해서 약관 버전이 바뀌었으면 스냅샷을 교체한다.
+ * - 스냅샷에 없는 코드가 요청되면 한 번 다시 읽어본 뒤에도 없을 때 CONSENT_ITEM_NOT_FOUND를 던진다.
+ *   다시 읽은 스냅샷에도 없는 코드는 다음 변경 확인에서 스냅샷이 바뀔 때까지 다시 읽지 않고 바로 던진다.
+ */
+@Slf4j
+@Component
+public class ConsentCatalog {
+
+    private final ConsentItemRepository consentItemRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    public ConsentCatalog(ConsentItemRepository consentItemRepository) {
+        this.consentItemRepository = consentItemRepository;
+    }
+
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    /**
+     * @param code 약관 항목 코드
+     * @return 현재 활성화된 약관 항목
+     * @throws BusinessException 활성화된 항목이 없는 경우
+     */
+    public Entry get(ConsentItemCode code) {
+        Snapshot current = snapshot.get();
+        Entry entry = current.entries().get(code);
+        if (entry != null) {
+            return entry;
+        }
+
+        // 방금 추가된 항목일 수 있으므로 스냅샷마다 한 번만 다시 읽는다
+        if (!current.reloadedOnMiss()) {
+            entry = reloadOnMiss(current).entries().get(code);
+        }
+        if (entry == null) {
+            throw new BusinessException(ErrorCode.CONSENT_ITEM_NOT_FOUND);
+        }
+        return entry;
+    }
+
+    /**
+     * 약관 항목 테이블이 바뀌었으면 스냅샷을 다시 만든다.
+     */
+    @Scheduled(
+            initialDelayString = "${auth.consent-catalog.refresh-interval:60s}",
+            fixedDelayString = "${auth.consent-catalog.refresh-interval:60s}"
+    )
+    public void refreshIfChanged() {
+        try {
+            ConsentCatalogVersion version = consentItemRepository.findVersion();
+            if (!version.equals(snapshot.get().version())) {
+                reload();
+            }
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도하고, 그동안은 기존 스냅샷을 사용
+            log.error("[ConsentCatalog] 변경 확인 실패 - 기존 스냅샷 유지", e);
+        }
+    }
+
+    /**
+     * 활성 약관 항목을 다시 읽어 스냅샷을 교체한다.
+     * 같은 코드의 활성 항목이 여러 개면 가장 최근(id가 큰) 항목을 사용한다.
+     */
+    public synchronized void reload() {
+        load(false);
+    }
+
+    /**
+     * 없는 코드 요청으로 다시 읽는다. 그사이 다른 스레드가 이미 교체했으면 그 스냅샷을 사용한다.
+     */
+    private synchronized Snapshot reloadOnMiss(Snapshot missed) {
+        Snapshot current = snapshot.get();
+        if (current != missed) {
+            return current;
+        }
+        return load(true);
+    }
+
+    private Snapshot load(boolean reloadedOnMiss) {
+        ConsentCatalogVersion version = consentItemRepository.findVersion();
+
+        Map<ConsentItemCode, Entry> entries = new EnumMap<>(ConsentItemCode.class);
+        for (ConsentItem item : consentItemRepository.findAllByIsActiveTrue()) {
+            Entry current = entries.get(item.getCode());
+            if (current == null || current.id() < item.getId()) {
+                entries.put(item.getCode(), new Entry(item.getId(), item.getCode(), item.getVersion(),
+                        Boolean.TRUE.equals(item.getIsRequired())));
+            }
+        }
+
+        Snapshot loaded = new Snapshot(Collections.unmodifiableMap(entries), version, reloadedOnMiss);
+        snapshot.set(loaded);
+        log.info("[ConsentCatalog] 스냅샷 교체 - {}", entries.values());
+        return loaded;
+    }
+
+    /**
+     * 활성 약관 항목 (UserConsent 저장 시 id로 참조)
+     */
+    public record Entry(Long id, ConsentItemCode code, String version, boolean required) {
+    }
+
+    /**
+     * @param reloadedOnMiss 없는 코드 요청으로 다시 읽은 스냅샷이면 true (다음 교체 전까지 다시 읽지 않음)
+     */
+    private record Snapshot(Map<ConsentItemCode, Entry> entries, ConsentCatalogVersion version,
+                            boolean reloadedOnMiss) {
+
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), null, false);
+    }
+}
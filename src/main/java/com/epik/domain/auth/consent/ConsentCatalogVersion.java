@@ -0,0 +1,18 @@
+package com.epik.domain.auth.consent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 약관 항목 테이블 변경 감지용 값.
+ * 새 버전 추가는 count/maxId로, 활성화 여부 변경은 lastUpdatedAt으로 감지한다.
+ *
+ * @param count         약관 항목 행 수
+ * @param maxId         가장 큰 id (행이 없으면 null)
+ * @param lastUpdatedAt 가장 최근 updated_at (행이 없으면 null)
+ */
+public record ConsentCatalogVersion(
+        Long count,
+        Long maxId,
+        LocalDateTime lastUpdatedAt
+) {
+}
@@ -1,9 +1,11 @@
 package com.epik.domain.auth.controller;
 
+import com.epik.domain.auth.dto.request.AvailabilityBatchRequest;
 import com.epik.domain.auth.dto.request.LoginRequest;
 import com.epik.domain.auth.dto.request.LogoutRequest;
 import com.epik.domain.auth.dto.request.SignupRequest;
 import com.epik.domain.auth.dto.request.TokenReissueRequest;
+import com.epik.domain.auth.dto.response.AvailabilityBatchResponse;
 import com.epik.domain.auth.dto.response.EmailAvailabilityResponse;
 import com.epik.domain.auth.dto.response.JoinMethodResponse;
 import com.epik.domain.auth.dto.response.NicknameAvailabilityResponse;
@@ -12,6 +14,7 @@ import com.epik.domain.auth.service.AuthService;
 import com.epik.domain.auth.service.TokenService;
 import com.epik.global.auth.annotation.AuthUser;
 import com.epik.global.common.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -48,8 +51,20 @@ public class AuthController {
             @RequestParam
             @NotBlank(message = "닉네임을 입력해주세요")
             @Size(min = 2, max = 16, message = "닉네임은 2-16자 사이여야 합니다")
-            String nickname) {
-        NicknameAvailabilityResponse response = authService.isNicknameAvailable(nickname);
+            String nickname,
+            @RequestParam(required = false)
+            @Size(max = 64, message = "reservationNonce는 64자 이하여야 합니다")
+            String reservationNonce,
+            HttpServletRequest httpRequest) {
+        NicknameAvailabilityResponse response = authService.isNicknameAvailable(nickname, reservationNonce,
+                httpRequest.getRemoteAddr());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("/availability/batch")
+    public ResponseEntity<ApiResponse<AvailabilityBatchResponse>> checkAvailabilityBatch(
+            @RequestBody @Valid AvailabilityBatchRequest request) {
+        AvailabilityBatchResponse response = authService.checkAvailabilityBatch(request);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -71,14 +86,15 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<TokenResponse>> login(@RequestBody @Valid LoginRequest request) {
-        TokenResponse response = authService.login(request.getEmail(), request.getPassword());
+    public ResponseEntity<ApiResponse<TokenResponse>> login(@RequestBody @Valid LoginRequest request,
+                                                            HttpServletRequest httpRequest) {
+        TokenResponse response = authService.login(request.getEmail(), request.getPassword(), httpRequest.getRemoteAddr());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
 
     @PostMapping("/refresh")
-    public ResponseEntity<ApiResponse<TokenResponse>> refreshToken(@RequestBody TokenReissueRequest request) {
+    public ResponseEntity<ApiResponse<TokenResponse>> refreshToken(@RequestBody @Valid TokenReissueRequest request) {
         TokenResponse response = tokenService.reissue(request.getRefreshToken());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
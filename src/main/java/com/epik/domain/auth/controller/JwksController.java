@@ -0,0 +1,36 @@
+package com.epik.domain.auth.controller;
+
+import com.epik.domain.auth.dto.response.JwkResponse;
+import com.epik.domain.auth.dto.response.JwkSetResponse;
+import com.epik.global.security.jwt.JwtSigningKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtSigningKeyRing signingKeyRing;
+
+    /**
+     * Access Token 검증용 공개키 목록 (JWKS)
+     * 다른 서비스는 이 키 목록을 캐싱해서 인증 서버 호출 없이 토큰을 직접 검증한다.
+     * 표준 형식을 따르므로 ApiResponse로 감싸지 않는다.
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<JwkSetResponse> getJwks() {
+        List<JwkResponse> keys = signingKeyRing.publishedKeys().stream()
+                .map(key -> JwkResponse.fromEcPublicKey(key.kid(), key.publicKey()))
+                .toList();
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(new JwkSetResponse(keys));
+    }
+}
@@ -0,0 +1,25 @@
+package com.epik.domain.auth.dto.request;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 이메일/닉네임 일괄 사용 가능 여부 확인 요청 (관리자/제휴사 가져오기 도구용)
+ */
+@Getter
+public class AvailabilityBatchRequest {
+
+    public static final int MAX_ITEMS = 500;
+
+    @Size(max = MAX_ITEMS, message = "이메일은 한 번에 최대 500개까지 확인할 수 있습니다")
+    private List<@NotBlank(message = "이메일을 입력해주세요")
+                 @Email(message = "이메일을 @까지 정확하게 입력해 주세요") String> emails = List.of();
+
+    @Size(max = MAX_ITEMS, message = "닉네임은 한 번에 최대 500개까지 확인할 수 있습니다")
+    private List<@NotBlank(message = "닉네임을 입력해주세요")
+                 @Size(min = 2, max = 16, message = "닉네임은 2-16자 사이여야 합니다") String> nicknames = List.of();
+}
@@ -40,4 +40,10 @@ public class SignupRequest {
      * 선택 이용 약관
      */
     private Boolean marketingConsent;    // 마케팅 수신 동의 여부 -> 사용자가 체크하지 않으면 null 가능
+
+    /**
+     * 닉네임 확인 시 보낸 선점 nonce (선택)
+     */
+    @Size(max = 64, message = "reservationNonce는 64자 이하여야 합니다")
+    private String reservationNonce;
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.epik.domain.auth.dto.response;
+
+import java.util.List;
+
+/**
+ * 일괄 사용 가능 여부 확인 결과 (요청 순서와 동일)
+ */
+public record AvailabilityBatchResponse(
+        List<IdentifierAvailabilityResponse> emails,
+        List<IdentifierAvailabilityResponse> nicknames
+) {}
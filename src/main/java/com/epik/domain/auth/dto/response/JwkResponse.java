@@ -0,0 +1,45 @@
+package com.epik.domain.auth.dto.response;
+
+import java.math.BigInteger;
+import java.security.interfaces.ECPublicKey;
+import java.util.Base64;
+
+/**
+ * JWKS로 공개하는 EC(P-256) 공개키 (RFC 7517)
+ */
+public record JwkResponse(
+        String kty,
+        String crv,
+        String x,
+        String y,
+        String kid,
+        String use,
+        String alg
+) {
+    private static final int P256_COORDINATE_LENGTH = 32;
+
+    public static JwkResponse fromEcPublicKey(String kid, ECPublicKey publicKey) {
+        return new JwkResponse(
+                "EC",
+                "P-256",
+                encodeCoordinate(publicKey.getW().getAffineX()),
+                encodeCoordinate(publicKey.getW().getAffineY()),
+                kid,
+                "sig",
+                "ES256"
+        );
+    }
+
+    /**
+     * 좌표값을 32바이트 고정 길이 big-endian으로 맞춘 뒤 base64url 인코딩한다.
+     */
+    private static String encodeCoordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[P256_COORDINATE_LENGTH];
+
+        int copyLength = Math.min(bytes.length, P256_COORDINATE_LENGTH);
+        System.arraycopy(bytes, bytes.length - copyLength, fixed, P256_COORDINATE_LENGTH - copyLength, copyLength);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+}
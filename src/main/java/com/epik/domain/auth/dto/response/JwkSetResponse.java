@@ -0,0 +1,7 @@
+package com.epik.domain.auth.dto.response;
+
+import java.util.List;
+
+public record JwkSetResponse(
+        List<JwkResponse> keys
+) {}
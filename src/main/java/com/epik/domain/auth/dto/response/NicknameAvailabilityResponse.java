@@ -6,5 +6,5 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 public record NicknameAvailabilityResponse(
         boolean available,
         @JsonInclude(JsonInclude.Include.NON_NULL)
-        NicknameInvalidReason reason   // "DUPLICATED", "FORBIDDEN_WORD"
+        NicknameInvalidReason reason   // "DUPLICATED", "FORBIDDEN_WORD", "RESERVED"
 ) {}
@@ -3,7 +3,9 @@ package com.epik.domain.auth.entity;
 import com.epik.domain.auth.entity.enums.ConsentItemCode;
 import com.epik.global.common.BaseTimeEntity;
 import jakarta.persistence.*;
+import lombok.Getter;
 
+@Getter
 @Entity
 @Table(name = "consent_items")
 public class ConsentItem extends BaseTimeEntity {
@@ -1,5 +1,6 @@
 package com.epik.domain.auth.entity;
 
+import com.epik.global.common.IdGenerators;
 import com.epik.global.exception.custom.BusinessException;
 import com.epik.global.exception.ErrorCode;
 import jakarta.persistence.*;
@@ -18,7 +19,10 @@ public class PasswordResetToken {
     private static final int EXPIRE_MINUTES = 30;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "password_reset_token_id")
+    @TableGenerator(name = "password_reset_token_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "password_reset_tokens", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 512)
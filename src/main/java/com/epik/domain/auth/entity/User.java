@@ -4,6 +4,7 @@ import com.epik.domain.auth.entity.enums.UserJoinType;
 import com.epik.domain.auth.entity.enums.UserRole;
 import com.epik.domain.auth.entity.enums.UserStatus;
 import com.epik.global.common.BaseTimeEntity;
+import com.epik.global.common.IdGenerators;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -18,7 +19,10 @@ import java.time.LocalDateTime;
 public class User extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+    @TableGenerator(name = "user_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "users", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -2,5 +2,6 @@ package com.epik.domain.auth.entity.enums;
 
 public enum NicknameInvalidReason {
     DUPLICATED,
-    FORBIDDEN_WORD
+    FORBIDDEN_WORD,
+    RESERVED    // 다른 사용자가 가입 진행 중 (임시 선점)
 }
@@ -0,0 +1,109 @@
+package com.epik.domain.auth.forbidden;
+
+import com.epik.domain.auth.repository.ForbiddenWordRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 금칙어 매처 스냅샷 보관소.
+ *
+ * - 애플리케이션 시작 시 금칙어를 읽어 정규화(ForbiddenWordNormalizer)한 뒤 컴파일한다.
+ *   닉네임도 같은 방식으로 정규화해서 검사하므로 공백/기호/전각/닮은꼴 문자로 우회할 수 없다.
+ * - 주기적으로 count/max(updated_at)만 조회해서 변경이 있으면 새 스냅샷을 만들어 교체한다.
+ *   (관리자가 금칙어를 추가/비활성화해도 재시작이 필요 없다)
+ * - 스냅샷은 불변이고 AtomicReference로 교체하므로 조회 경로는 락 없이 읽기만 한다.
+ */
+@Slf4j
+@Component
+public class ForbiddenWordIndex {
+
+    private final ForbiddenWordRepository forbiddenWordRepository;
+    private final ForbiddenWordNormalizer normalizer;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    public ForbiddenWordIndex(ForbiddenWordRepository forbiddenWordRepository,
+                              @Value("${auth.forbidden-words.decompose-jamo:false}") boolean decomposeJamo) {
+        this.forbiddenWordRepository = forbiddenWordRepository;
+        this.normalizer = new ForbiddenWordNormalizer(decomposeJamo);
+    }
+
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    /**
+     * 텍스트에 금칙어가 포함되어 있는지 확인한다.
+     *
+     * @param text 검사할 문자열
+     * @return 금칙어 포함 여부
+     */
+    public boolean containsForbiddenWord(String text) {
+        Snapshot current = snapshot.get();
+        return normalizer.containsForbiddenWord(current.matcher(), current.numericMatcher(), text);
+    }
+
+    /**
+     * 금칙어 테이블이 바뀌었으면 스냅샷을 다시 만든다.
+     */
+    @Scheduled(
+            initialDelayString = "${auth.forbidden-words.refresh-interval:60s}",
+            fixedDelayString = "${auth.forbidden-words.refresh-interval:60s}"
+    )
+    public void refreshIfChanged() {
+        try {
+            ForbiddenWordVersion version = forbiddenWordRepository.findVersion();
+            if (!version.equals(snapshot.get().version())) {
+                reload();
+            }
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도하고, 그동안은 기존 스냅샷을 사용
+            log.error("[ForbiddenWord] 변경 확인 실패 - 기존 스냅샷 유지", e);
+        }
+    }
+
+    /**
+     * 금칙어를 다시 읽어 스냅샷을 교체한다.
+     * 버전을 먼저 읽으므로, 그 뒤에 생긴 변경은 다음 확인 때 다시 반영된다.
+     */
+    public synchronized void reload() {
+        ForbiddenWordVersion version = forbiddenWordRepository.findVersion();
+        List<String> words = forbiddenWordRepository.findAllWords();
+
+        long startedAt = System.nanoTime();
+        Set<String> normalizedWords = new LinkedHashSet<>(words.size());
+        Set<String> numericWords = new LinkedHashSet<>();
+        for (String word : words) {
+            String normalized = normalizer.normalize(word);
+            if (ForbiddenWordNormalizer.isNumeric(normalized)) {
+                numericWords.add(normalized);
+            } else {
+                normalizedWords.add(normalized);
+            }
+        }
+        ForbiddenWordMatcher matcher = ForbiddenWordMatcher.compile(normalizedWords);
+        ForbiddenWordMatcher numericMatcher = ForbiddenWordMatcher.compile(numericWords);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        snapshot.set(new Snapshot(matcher, numericMatcher, version));
+        log.info("[ForbiddenWord] 스냅샷 교체 - 금칙어: {}개 (숫자 {}개), 상태: {}개, 정규화+컴파일: {}ms",
+                matcher.wordCount() + numericMatcher.wordCount(), numericMatcher.wordCount(),
+                matcher.stateCount(), elapsedMillis);
+    }
+
+    private record Snapshot(ForbiddenWordMatcher matcher, ForbiddenWordMatcher numericMatcher,
+                            ForbiddenWordVersion version) {
+
+        private static final Snapshot EMPTY =
+                new Snapshot(ForbiddenWordMatcher.empty(), ForbiddenWordMatcher.empty(), null);
+    }
+}
@@ -0,0 +1,219 @@
+package com.epik.domain.auth.forbidden;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * 금칙어 Aho-Corasick 오토마톤.
+ *
+ * 금칙어 목록을 한 번 컴파일해두면 닉네임 길이에 비례하는 한 번의 순회로 모든 금칙어 포함 여부를 검사한다.
+ * (기존 방식은 금칙어 수 × 닉네임 길이)
+ *
+ * 컴파일 결과는 원시 타입 배열로만 보관하므로 불변이고 여러 스레드에서 동시에 사용할 수 있으며,
+ * 검사 중에는 객체를 생성하지 않는다.
+ * - 상태 s의 전이: edgeChars/edgeTargets[edgeStart[s] .. edgeStart[s + 1]) (문자 오름차순, 이진 탐색)
+ * - fail[s]: 실패 링크
+ * - terminal[s]: s 또는 s의 실패 링크 체인에서 끝나는 금칙어가 있는지 여부
+ */
+public final class ForbiddenWordMatcher {
+
+    private static final int ROOT = 0;
+
+    private static final ForbiddenWordMatcher EMPTY = compile(List.of());
+
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] fail;
+    private final boolean[] terminal;
+    private final int wordCount;
+
+    private ForbiddenWordMatcher(int[] edgeStart, char[] edgeChars, int[] edgeTargets,
+                                 int[] fail, boolean[] terminal, int wordCount) {
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.terminal = terminal;
+        this.wordCount = wordCount;
+    }
+
+    /**
+     * @return 금칙어가 없는 매처
+     */
+    public static ForbiddenWordMatcher empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 금칙어 목록으로 오토마톤을 만든다. 빈 문자열/null은 무시한다.
+     *
+     * @param words 금칙어 목록
+     * @return 컴파일된 매처
+     */
+    public static ForbiddenWordMatcher compile(Collection<String> words) {
+        // 1. 트라이 구성 (빌드 중에만 TreeMap 사용)
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Boolean> terminals = new ArrayList<>();
+        children.add(new TreeMap<>());
+        terminals.add(false);
+
+        int wordCount = 0;
+        for (String word : words) {
+            if (word == null || word.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                Integer next = children.get(state).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put(c, next);
+                    children.add(new TreeMap<>());
+                    terminals.add(false);
+                }
+                state = next;
+            }
+            terminals.set(state, true);
+            wordCount++;
+        }
+
+        int stateCount = children.size();
+        int[] fail = new int[stateCount];
+        boolean[] terminal = new boolean[stateCount];
+        for (int s = 0; s < stateCount; s++) {
+            terminal[s] = terminals.get(s);
+        }
+
+        // 2. BFS로 실패 링크 계산 (부모가 먼저 처리되므로 terminal 전파도 함께 처리)
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : children.get(ROOT).values()) {
+            fail[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : children.get(state).entrySet()) {
+                char c = edge.getKey();
+                int child = edge.getValue();
+
+                int f = fail[state];
+                Integer next = children.get(f).get(c);
+                while (next == null && f != ROOT) {
+                    f = fail[f];
+                    next = children.get(f).get(c);
+                }
+                fail[child] = next != null ? next : ROOT;
+                terminal[child] |= terminal[fail[child]];
+                queue.add(child);
+            }
+        }
+
+        // 3. 전이를 원시 배열로 평탄화
+        int edgeCount = stateCount - 1;
+        int[] edgeStart = new int[stateCount + 1];
+        char[] edgeChars = new char[edgeCount];
+        int[] edgeTargets = new int[edgeCount];
+
+        int e = 0;
+        for (int s = 0; s < stateCount; s++) {
+            edgeStart[s] = e;
+            for (Map.Entry<Character, Integer> edge : children.get(s).entrySet()) {
+                edgeChars[e] = edge.getKey();
+                edgeTargets[e] = edge.getValue();
+                e++;
+            }
+        }
+        edgeStart[stateCount] = e;
+
+        return new ForbiddenWordMatcher(edgeStart, edgeChars, edgeTargets, fail, terminal, wordCount);
+    }
+
+    /**
+     * 텍스트에 금칙어가 하나라도 포함되어 있는지 확인한다.
+     *
+     * @param text 검사할 문자열
+     * @return 금칙어 포함 여부
+     */
+    public boolean containsAny(CharSequence text) {
+        return containsAny(text, 0, text.length());
+    }
+
+    /**
+     * 텍스트의 [from, to) 구간에 금칙어가 하나라도 포함되어 있는지 확인한다.
+     */
+    public boolean containsAny(CharSequence text, int from, int to) {
+        int state = ROOT;
+        for (int i = from; i < to; i++) {
+            state = next(state, text.charAt(i));
+            if (terminal[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * char 배열의 [from, to) 구간에 금칙어가 하나라도 포함되어 있는지 확인한다.
+     */
+    public boolean containsAny(char[] text, int from, int to) {
+        int state = ROOT;
+        for (int i = from; i < to; i++) {
+            state = next(state, text[i]);
+            if (terminal[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 컴파일된 금칙어 수
+     */
+    public int wordCount() {
+        return wordCount;
+    }
+
+    /**
+     * @return 오토마톤 상태 수
+     */
+    public int stateCount() {
+        return fail.length;
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            int target = transition(state, c);
+            if (target >= 0) {
+                return target;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = fail[state];
+        }
+    }
+
+    private int transition(int state, char c) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = edgeChars[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,351 @@
+package com.epik.domain.auth.forbidden;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+/**
+ * 금칙어 우회를 막기 위한 문자열 정규화.
+ *
+ * 금칙어 목록과 닉네임에 같은 정규화를 적용한 뒤 비교한다.
+ * 1. NFKC: 전각/호환 문자를 일반 문자로 바꾸고, 낱자(ㅅ + ㅣ)를 음절(시)로 합친다.
+ * 2. 한 번의 순회로
+ *    - 라틴 대문자 → 소문자 (닮은꼴 치환보다 먼저 해서 I와 i가 같은 문자가 되도록)
+ *    - 닮은꼴 문자 치환 (키릴/그리스 문자, 숫자/기호 → 라틴 소문자)
+ *      i, l, 1, !, | 및 이와 닮은 그리스/키릴 문자는 모두 l 하나로 모은다.
+ *    - 공백/문장부호/기호/제어 문자 제거
+ *    - (옵션) 한글 음절을 자모로 분해 (초성/종성 구분 없이 호환 자모로 통일)
+ * 3. 구분자를 제거한 뒤 낱자가 남아 있으면 다시 합친다. (ㅅ ㅣ발 → 시발, 분해 옵션이 꺼진 경우)
+ *
+ * 숫자로만 된 금칙어(예: 18)는 숫자를 글자로 바꾸지 않고 숫자 그대로 비교한다.
+ * 숫자를 바꾸면 "lb"가 되어 Albert 같은 평범한 닉네임이 걸리기 때문이다.
+ * 이런 금칙어는 따로 컴파일하고(isNumeric), 닉네임도 숫자를 유지한 채 한 번 더 정규화해서 검사한다.
+ *
+ * 닉네임 검사(containsForbiddenWord)는 스레드별로 재사용하는 버퍼에 정규화하므로,
+ * 이미 NFKC 형태인 일반적인 닉네임은 객체를 생성하지 않는다.
+ */
+public final class ForbiddenWordNormalizer {
+
+    private static final int INITIAL_BUFFER_SIZE = 128;
+
+    // 한글 음절
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_END = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    // 조합형 자모 (NFKC 결과)
+    private static final int CHOSEONG_BASE = 0x1100;
+    private static final int JUNGSEONG_BASE = 0x1161;
+    private static final int JONGSEONG_BASE = 0x11A8;
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char[] JUNGSEONG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ',
+            'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+    // 종성 (인덱스 0 = 받침 없음)
+    private static final char[] JONGSEONG = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ',
+            'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 닮은꼴 문자 (정렬된 원본 → 치환 문자)
+    private static final char[] CONFUSABLE_FROM;
+    private static final char[] CONFUSABLE_TO;
+
+    static {
+        String[][] confusables = {
+                // i/l 계열 (대소문자, 숫자, 기호, 닮은꼴 문자를 모두 l 하나로)
+                {"i", "l"}, {"1", "l"}, {"!", "l"}, {"|", "l"}, {"ı", "l"},
+                {"Ι", "l"}, {"ι", "l"}, {"І", "l"}, {"і", "l"}, {"Ӏ", "l"}, {"ӏ", "l"},
+                // 숫자/기호
+                {"0", "o"}, {"3", "e"}, {"4", "a"}, {"5", "s"}, {"7", "t"}, {"8", "b"},
+                {"@", "a"}, {"$", "s"},
+                // 라틴 소문자 닮은꼴
+                {"ſ", "s"},
+                // 그리스 문자
+                {"Α", "a"}, {"Β", "b"}, {"Ε", "e"}, {"Ζ", "z"}, {"Η", "h"}, {"Κ", "k"},
+                {"Μ", "m"}, {"Ν", "n"}, {"Ο", "o"}, {"Ρ", "p"}, {"Τ", "t"}, {"Υ", "y"}, {"Χ", "x"},
+                {"α", "a"}, {"ε", "e"}, {"κ", "k"}, {"ν", "v"}, {"ο", "o"}, {"ρ", "p"},
+                {"τ", "t"}, {"υ", "u"}, {"χ", "x"},
+                // 키릴 문자
+                {"А", "a"}, {"В", "b"}, {"Е", "e"}, {"К", "k"}, {"М", "m"}, {"Н", "h"}, {"О", "o"},
+                {"Р", "p"}, {"С", "c"}, {"Т", "t"}, {"У", "y"}, {"Х", "x"}, {"Ѕ", "s"},
+                {"Ј", "j"}, {"а", "a"}, {"е", "e"}, {"о", "o"}, {"р", "p"}, {"с", "c"}, {"у", "y"},
+                {"х", "x"}, {"ѕ", "s"}, {"ј", "j"}, {"ё", "e"}, {"һ", "h"}, {"ԁ", "d"},
+                // 아르메니아 문자
+                {"ս", "u"}, {"օ", "o"}, {"ո", "n"},
+        };
+        Arrays.sort(confusables, (a, b) -> Character.compare(a[0].charAt(0), b[0].charAt(0)));
+
+        CONFUSABLE_FROM = new char[confusables.length];
+        CONFUSABLE_TO = new char[confusables.length];
+        for (int i = 0; i < confusables.length; i++) {
+            CONFUSABLE_FROM[i] = confusables[i][0].charAt(0);
+            CONFUSABLE_TO[i] = confusables[i][1].charAt(0);
+        }
+    }
+
+    private static final ThreadLocal<char[][]> BUFFER = ThreadLocal.withInitial(
+            () -> new char[][]{new char[INITIAL_BUFFER_SIZE]});
+
+    private final boolean decomposeJamo;
+
+    /**
+     * @param decomposeJamo 한글 음절을 자모로 분해할지 여부
+     */
+    public ForbiddenWordNormalizer(boolean decomposeJamo) {
+        this.decomposeJamo = decomposeJamo;
+    }
+
+    /**
+     * 문자열을 정규화한다. (금칙어 목록 컴파일용)
+     *
+     * @param text 원본 문자열
+     * @return 정규화된 문자열 (모두 제거되면 빈 문자열)
+     */
+    public String normalize(String text) {
+        String nfkc = toNfkc(text);
+        char[] out = new char[maxLength(nfkc)];
+
+        // 숫자로만 된 금칙어는 숫자 그대로 둔다
+        int length = normalizeInto(nfkc, out, false);
+        if (isDigits(out, length)) {
+            return new String(out, 0, length);
+        }
+
+        length = normalizeInto(nfkc, out, true);
+        return composeIfNeeded(out, length);
+    }
+
+    /**
+     * 정규화된 금칙어가 숫자로만 되어 있는지 확인한다.
+     * 이런 금칙어는 따로 컴파일해서 containsForbiddenWord의 numericMatcher로 넘긴다.
+     *
+     * @param normalized normalize()의 결과
+     * @return 숫자로만 되어 있으면 true (빈 문자열은 false)
+     */
+    public static boolean isNumeric(String normalized) {
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 텍스트를 정규화해서 금칙어가 포함되어 있는지 확인한다. (닉네임 검사용)
+     *
+     * @param matcher 정규화된 금칙어로 컴파일한 매처
+     * @param text    검사할 문자열
+     * @return 금칙어 포함 여부
+     */
+    public boolean containsForbiddenWord(ForbiddenWordMatcher matcher, String text) {
+        return containsForbiddenWord(matcher, ForbiddenWordMatcher.empty(), text);
+    }
+
+    /**
+     * 텍스트를 정규화해서 금칙어가 포함되어 있는지 확인한다. (닉네임 검사용)
+     *
+     * @param matcher        숫자가 아닌 금칙어로 컴파일한 매처
+     * @param numericMatcher 숫자로만 된 금칙어(isNumeric)로 컴파일한 매처
+     * @param text           검사할 문자열
+     * @return 금칙어 포함 여부
+     */
+    public boolean containsForbiddenWord(ForbiddenWordMatcher matcher, ForbiddenWordMatcher numericMatcher, String text) {
+        String nfkc = toNfkc(text);
+
+        char[][] holder = BUFFER.get();
+        int required = maxLength(nfkc);
+        if (holder[0].length < required) {
+            holder[0] = new char[Math.max(required, holder[0].length * 2)];
+        }
+        char[] out = holder[0];
+
+        if (numericMatcher.wordCount() > 0) {
+            int length = normalizeInto(nfkc, out, false);
+            if (numericMatcher.containsAny(out, 0, length)) {
+                return true;
+            }
+        }
+
+        int length = normalizeInto(nfkc, out, true);
+        if (!decomposeJamo && containsConjoiningJamo(out, length)) {
+            // 구분자 제거로 이어 붙은 낱자가 있는 경우 (드묾)
+            return matcher.containsAny(composeIfNeeded(out, length));
+        }
+        return matcher.containsAny(out, 0, length);
+    }
+
+    // ========== Private (내부용) ==========
+
+    private int maxLength(String nfkc) {
+        // 음절 분해 시 한 글자가 최대 3글자가 된다
+        return decomposeJamo ? nfkc.length() * 3 : nfkc.length();
+    }
+
+    private static String toNfkc(String text) {
+        return Normalizer.isNormalized(text, Normalizer.Form.NFKC)
+                ? text
+                : Normalizer.normalize(text, Normalizer.Form.NFKC);
+    }
+
+    /**
+     * @param foldDigits 숫자를 닮은 글자로 바꿀지 여부 (false면 숫자를 그대로 둔다)
+     */
+    private int normalizeInto(String text, char[] out, boolean foldDigits) {
+        int n = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if (foldDigits || c < '0' || c > '9') {
+                c = confusable(c);
+            }
+
+            if (c < 0x80) {
+                // ASCII: 영문 소문자/숫자만 남긴다
+                if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                    out[n++] = c;
+                }
+                continue;
+            }
+
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_END) {
+                if (decomposeJamo) {
+                    n = decomposeSyllable(c, out, n);
+                } else {
+                    out[n++] = c;
+                }
+                continue;
+            }
+
+            if (isSeparator(c)) {
+                continue;
+            }
+
+            if (decomposeJamo) {
+                c = toCompatibilityJamo(c);
+            }
+            out[n++] = Character.toLowerCase(c);
+        }
+        return n;
+    }
+
+    private static int decomposeSyllable(char syllable, char[] out, int n) {
+        int index = syllable - SYLLABLE_BASE;
+        int jongseong = index % JONGSEONG_COUNT;
+        int jungseong = (index / JONGSEONG_COUNT) % JUNGSEONG_COUNT;
+        int choseong = index / (JONGSEONG_COUNT * JUNGSEONG_COUNT);
+
+        out[n++] = CHOSEONG[choseong];
+        out[n++] = JUNGSEONG[jungseong];
+        if (jongseong != 0) {
+            out[n++] = JONGSEONG[jongseong];
+        }
+        return n;
+    }
+
+    /**
+     * 조합형 자모(NFKC 결과)를 호환 자모로 바꾼다. 초성/종성의 같은 자음은 같은 문자가 된다.
+     */
+    private static char toCompatibilityJamo(char c) {
+        int choseong = c - CHOSEONG_BASE;
+        if (choseong >= 0 && choseong < CHOSEONG.length) {
+            return CHOSEONG[choseong];
+        }
+        int jungseong = c - JUNGSEONG_BASE;
+        if (jungseong >= 0 && jungseong < JUNGSEONG.length) {
+            return JUNGSEONG[jungseong];
+        }
+        int jongseong = c - JONGSEONG_BASE;
+        if (jongseong >= 0 && jongseong < JONGSEONG.length - 1) {
+            return JONGSEONG[jongseong + 1];
+        }
+        return c;
+    }
+
+    private static boolean isDigits(char[] text, int length) {
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (text[i] < '0' || text[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsConjoiningJamo(char[] text, int length) {
+        for (int i = 0; i < length; i++) {
+            if (text[i] >= 0x1100 && text[i] <= 0x11FF) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String composeIfNeeded(char[] text, int length) {
+        String normalized = new String(text, 0, length);
+        if (decomposeJamo || !containsConjoiningJamo(text, length)) {
+            return normalized;
+        }
+        return Normalizer.normalize(normalized, Normalizer.Form.NFC);
+    }
+
+    private static char confusable(char c) {
+        int low = 0;
+        int high = CONFUSABLE_FROM.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char from = CONFUSABLE_FROM[mid];
+            if (from < c) {
+                low = mid + 1;
+            } else if (from > c) {
+                high = mid - 1;
+            } else {
+                return CONFUSABLE_TO[mid];
+            }
+        }
+        return c;
+    }
+
+    /**
+     * 공백, 문장부호, 기호, 제어/서식 문자(zero-width 등)
+     */
+    private static boolean isSeparator(char c) {
+        switch (Character.getType(c)) {
+            case Character.SPACE_SEPARATOR:
+            case Character.LINE_SEPARATOR:
+            case Character.PARAGRAPH_SEPARATOR:
+            case Character.CONTROL:
+            case Character.FORMAT:
+            case Character.CONNECTOR_PUNCTUATION:
+            case Character.DASH_PUNCTUATION:
+            case Character.START_PUNCTUATION:
+            case Character.END_PUNCTUATION:
+            case Character.INITIAL_QUOTE_PUNCTUATION:
+            case Character.FINAL_QUOTE_PUNCTUATION:
+            case Character.OTHER_PUNCTUATION:
+            case Character.MATH_SYMBOL:
+            case Character.CURRENCY_SYMBOL:
+            case Character.MODIFIER_SYMBOL:
+            case Character.OTHER_SYMBOL:
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
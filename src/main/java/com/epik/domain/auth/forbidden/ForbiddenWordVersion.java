@@ -0,0 +1,16 @@
+package com.epik.domain.auth.forbidden;
+
+import java.time.LocalDateTime;
+
+/**
+ * 금칙어 테이블 변경 감지용 값 (행 수 + 마지막 수정 시각).
+ * 추가/삭제는 count로, 수정(활성화 여부 변경 등)은 lastUpdatedAt으로 감지한다.
+ *
+ * @param count         금칙어 행 수
+ * @param lastUpdatedAt 가장 최근 updated_at (행이 없으면 null)
+ */
+public record ForbiddenWordVersion(
+        Long count,
+        LocalDateTime lastUpdatedAt
+) {
+}
@@ -1,11 +1,20 @@
 package com.epik.domain.auth.repository;
 
 import com.epik.domain.auth.entity.ConsentItem;
-import com.epik.domain.auth.entity.enums.ConsentItemCode;
+import com.epik.domain.auth.consent.ConsentCatalogVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-import java.util.Optional;
+import java.util.List;
 
 public interface ConsentItemRepository extends JpaRepository <ConsentItem, Long> {
-    Optional<ConsentItem> findByCodeAndIsActiveTrue(ConsentItemCode code);
+    // ConsentCatalog 적재용
+    List<ConsentItem> findAllByIsActiveTrue();
+
+    // 변경 감지용 (전체 목록을 읽지 않고 확인)
+    @Query("""
+        SELECT new com.epik.domain.auth.consent.ConsentCatalogVersion(COUNT(c), MAX(c.id), MAX(c.updatedAt))
+        FROM ConsentItem c
+    """)
+    ConsentCatalogVersion findVersion();
 }
@@ -1,12 +1,20 @@
 package com.epik.domain.auth.repository;
 
 import com.epik.domain.auth.entity.ForbiddenWord;
+import com.epik.domain.auth.forbidden.ForbiddenWordVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface ForbiddenWordRepository extends JpaRepository<ForbiddenWord, Long> {
-    @Query("SELECT f.word FROM ForbiddenWord f")
+    @Query("SELECT f.word FROM ForbiddenWord f WHERE f.isActive = true")
     List<String> findAllWords();
+
+    // 변경 감지용 (전체 목록을 읽지 않고 확인)
+    @Query("""
+        SELECT new com.epik.domain.auth.forbidden.ForbiddenWordVersion(COUNT(f), MAX(f.updatedAt))
+        FROM ForbiddenWord f
+    """)
+    ForbiddenWordVersion findVersion();
 }
@@ -1,13 +1,49 @@
 package com.epik.domain.auth.repository;
 
+import com.epik.domain.auth.availability.UserIdentifiers;
 import com.epik.domain.auth.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByEmail(String email);
     Boolean existsByNickname(String nickname);
     Optional<User> findByEmail(String email);
     Optional<User> findByIdAndDeletedAtIsNull(Long userId);
+
+    // 로그인 시 재해싱: 그 사이 비밀번호가 바뀌지 않았을 때만 교체
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :currentPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("currentPassword") String currentPassword,
+                                  @Param("newPassword") String newPassword);
+
+    // 일괄 중복 확인용 (IN 쿼리 한 번으로 이미 사용 중인 값만 조회)
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.nickname FROM User u WHERE u.nickname IN :nicknames")
+    List<String> findExistingNicknames(@Param("nicknames") Collection<String> nicknames);
+
+    // Bloom Filter 적재용 PK 범위 스캔 (afterId = 0이면 전체, MySQL은 fetch size가 Integer.MIN_VALUE일 때 행 단위로 스트리밍)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+        SELECT new com.epik.domain.auth.availability.UserIdentifiers(u.id, u.email, u.nickname)
+        FROM User u
+        WHERE u.id > :afterId
+        ORDER BY u.id
+    """)
+    Stream<UserIdentifiers> streamIdentifiersAfter(@Param("afterId") long afterId);
 }
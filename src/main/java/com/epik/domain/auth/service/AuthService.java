@@ -1,8 +1,14 @@
 package com.epik.domain.auth.service;
 
+import com.epik.domain.auth.availability.NicknameReservations;
+import com.epik.domain.auth.availability.UserIdentifierFilter;
+import com.epik.domain.auth.consent.ConsentCatalog;
+import com.epik.domain.auth.dto.request.AvailabilityBatchRequest;
 import com.epik.domain.auth.dto.request.LogoutRequest;
 import com.epik.domain.auth.dto.request.SignupRequest;
+import com.epik.domain.auth.dto.response.AvailabilityBatchResponse;
 import com.epik.domain.auth.dto.response.EmailAvailabilityResponse;
+import com.epik.domain.auth.dto.response.IdentifierAvailabilityResponse;
 import com.epik.domain.auth.dto.response.JoinMethodResponse;
 import com.epik.domain.auth.dto.response.NicknameAvailabilityResponse;
 import com.epik.domain.auth.dto.response.TokenResponse;
@@ -11,13 +17,17 @@ import com.epik.domain.auth.entity.User;
 import com.epik.domain.auth.entity.UserConsent;
 import com.epik.domain.auth.entity.enums.ConsentItemCode;
 import com.epik.domain.auth.entity.enums.NicknameInvalidReason;
+import com.epik.domain.auth.forbidden.ForbiddenWordIndex;
 import com.epik.domain.auth.repository.ConsentItemRepository;
-import com.epik.domain.auth.repository.ForbiddenWordRepository;
 import com.epik.domain.auth.repository.UserConsentRepository;
 import com.epik.domain.auth.repository.UserRepository;
+import com.epik.domain.auth.throttle.LoginThrottle;
 import com.epik.domain.auth.token.RefreshToken;
 import com.epik.domain.auth.token.RefreshTokenRepository;
+import com.epik.domain.auth.token.RefreshTokens;
 import com.epik.global.exception.custom.BusinessException;
+import com.epik.global.exception.custom.LoginThrottledException;
+import com.epik.global.exception.custom.RetryLaterException;
 import com.epik.global.exception.ErrorCode;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
@@ -25,22 +35,35 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
     private final UserRepository userRepository;
-    private final ForbiddenWordRepository forbiddenWordRepository;
+    private final ForbiddenWordIndex forbiddenWordIndex;
     private final PasswordEncoder passwordEncoder;
     private final ConsentItemRepository consentItemRepository;
     private final UserConsentRepository userConsentRepository;
+    private final ConsentCatalog consentCatalog;
     private final TokenService tokenService;
     private final RefreshTokenRepository refreshTokenRepository;
-
-    private List<String> cachedForbiddenWords;
+    private final UserIdentifierFilter userIdentifierFilter;
+    private final NicknameReservations nicknameReservations;
+    private final LoginThrottle loginThrottle;
+    private final TransactionTemplate transactionTemplate;
 
     // ========== Public (Controller용) ==========
 
@@ -51,7 +74,15 @@ public class AuthService {
      * @return 사용 가능 여부 응답
      */
     public EmailAvailabilityResponse isEmailAvailable(String email) {
+        // Bloom Filter에 없으면 DB 조회 없이 사용 가능
+        if (!userIdentifierFilter.mightContainEmail(email)) {
+            return new EmailAvailabilityResponse(true);
+        }
+
         boolean exists = userRepository.existsByEmail(email);
+        if (!exists) {
+            userIdentifierFilter.recordEmailFalsePositive();
+        }
         // 존재하면 true -> 사용 불가
         // available = 사용 가능 여부 = !exists
         return new EmailAvailabilityResponse(!exists);
@@ -59,13 +90,15 @@ public class AuthService {
 
     /**
      * 닉네임 사용 가능 여부를 확인한다.
-     * 금칙어 포함 여부와 중복 여부를 검사한다.
+     * 금칙어 포함 여부와 중복 여부를 검사하고, 사용 가능하면 nonce로 닉네임을 임시 선점한다.
      *
      * @param nickname 확인할 닉네임
+     * @param reservationNonce 클라이언트 선점 nonce (없으면 선점하지 않음)
+     * @param clientIp 클라이언트 IP (선점 횟수 제한)
      * @return 사용 가능 여부 및 불가 사유
      */
 
-    public NicknameAvailabilityResponse isNicknameAvailable(String nickname) {
+    public NicknameAvailabilityResponse isNicknameAvailable(String nickname, String reservationNonce, String clientIp) {
         if (containsForbiddenWords(nickname)) {
             return new NicknameAvailabilityResponse(false, NicknameInvalidReason.FORBIDDEN_WORD);
         }
@@ -74,27 +107,78 @@ public class AuthService {
             return new NicknameAvailabilityResponse(false, NicknameInvalidReason.DUPLICATED);
         }
 
+        if (!nicknameReservations.tryReserve(nickname, reservationNonce, clientIp)) {
+            return new NicknameAvailabilityResponse(false, NicknameInvalidReason.RESERVED);
+        }
+
         return new NicknameAvailabilityResponse(true, null);
     }
 
     /**
-     * 닉네임에 금칙어가 포함되어 있는지 확인한다.
-     * 금칙어 목록은 최초 호출 시 캐싱된다.
+     * 여러 이메일/닉네임의 사용 가능 여부를 한 번에 확인한다.
+     * 닉네임은 금칙어를 먼저 검사하고, 중복 여부는 타입별로 IN 쿼리 한 번씩만 조회한다.
+     * Bloom Filter에 없는 값은 쿼리 대상에서 제외한다.
      *
-     * @param nickname 검사할 닉네임
-     * @return 금칙어 포함 여부
+     * @param request 확인할 이메일/닉네임 목록
+     * @return 요청 순서대로 정렬된 항목별 결과
      */
-    public boolean containsForbiddenWords(String nickname) {
-        if (cachedForbiddenWords == null) {
-            cachedForbiddenWords = forbiddenWordRepository.findAllWords();
+    public AvailabilityBatchResponse checkAvailabilityBatch(AvailabilityBatchRequest request) {
+        List<String> emails = request.getEmails() != null ? request.getEmails() : List.of();
+        List<String> nicknames = request.getNicknames() != null ? request.getNicknames() : List.of();
+
+        // 이메일
+        Set<String> emailCandidates = new LinkedHashSet<>();
+        for (String email : emails) {
+            if (userIdentifierFilter.mightContainEmail(email)) {
+                emailCandidates.add(email);
+            }
+        }
+        Set<String> existingEmails = findExisting(emailCandidates, userRepository::findExistingEmails,
+                userIdentifierFilter::recordEmailFalsePositive);
+
+        List<IdentifierAvailabilityResponse> emailResults = new ArrayList<>(emails.size());
+        for (String email : emails) {
+            emailResults.add(existingEmails.contains(email)
+                    ? new IdentifierAvailabilityResponse(email, false, NicknameInvalidReason.DUPLICATED)
+                    : new IdentifierAvailabilityResponse(email, true, null));
         }
 
-        for (String word : cachedForbiddenWords) {
-            if (nickname.contains(word)) {
-                return true;
+        // 닉네임 (금칙어가 포함된 닉네임은 중복 조회 생략)
+        Set<String> forbiddenNicknames = new HashSet<>();
+        Set<String> nicknameCandidates = new LinkedHashSet<>();
+        for (String nickname : nicknames) {
+            if (containsForbiddenWords(nickname)) {
+                forbiddenNicknames.add(nickname);
+            } else if (userIdentifierFilter.mightContainNickname(nickname)) {
+                nicknameCandidates.add(nickname);
             }
         }
-        return false;
+        Set<String> existingNicknames = findExisting(nicknameCandidates, userRepository::findExistingNicknames,
+                userIdentifierFilter::recordNicknameFalsePositive);
+
+        List<IdentifierAvailabilityResponse> nicknameResults = new ArrayList<>(nicknames.size());
+        for (String nickname : nicknames) {
+            if (forbiddenNicknames.contains(nickname)) {
+                nicknameResults.add(new IdentifierAvailabilityResponse(nickname, false, NicknameInvalidReason.FORBIDDEN_WORD));
+            } else if (existingNicknames.contains(nickname)) {
+                nicknameResults.add(new IdentifierAvailabilityResponse(nickname, false, NicknameInvalidReason.DUPLICATED));
+            } else {
+                nicknameResults.add(new IdentifierAvailabilityResponse(nickname, true, null));
+            }
+        }
+
+        return new AvailabilityBatchResponse(emailResults, nicknameResults);
+    }
+
+    /**
+     * 닉네임에 금칙어가 포함되어 있는지 확인한다.
+     * 금칙어는 ForbiddenWordIndex가 미리 컴파일해둔 스냅샷으로 검사한다.
+     *
+     * @param nickname 검사할 닉네임
+     * @return 금칙어 포함 여부
+     */
+    public boolean containsForbiddenWords(String nickname) {
+        return forbiddenWordIndex.containsForbiddenWord(nickname);
     }
 
     /**
@@ -104,34 +188,49 @@ public class AuthService {
      * @return 중복 여부
      */
     public boolean isNicknameDuplicated(String nickname) {
-        return userRepository.existsByNickname(nickname);
+        // Bloom Filter에 없으면 DB 조회 없이 중복 아님
+        if (!userIdentifierFilter.mightContainNickname(nickname)) {
+            return false;
+        }
+
+        boolean exists = userRepository.existsByNickname(nickname);
+        if (!exists) {
+            userIdentifierFilter.recordNicknameFalsePositive();
+        }
+        return exists;
     }
 
 
     /**
      * 이메일 회원가입을 처리한다.
+     * 비밀번호 해싱은 해싱 대기열에서 최대 timeout만큼 기다릴 수 있으므로 트랜잭션 밖에서 하고,
+     * 저장만 짧은 트랜잭션으로 묶어 해싱 중에는 DB 커넥션을 잡지 않는다.
      *
      * @param request 회원가입 요청 정보
      * @throws BusinessException 이메일/닉네임 중복, 필수 약관 미동의 시 발생
      */
-    @Transactional
     public void signup(SignupRequest request) {
         // 이메일 중복 검사
         // 닉네임 중복 + 금칙어 검사
         // 필수 약관 검증
         validateEmail(request.getEmail());
-        validateNickname(request.getNickname());
+        validateNickname(request.getNickname(), request.getReservationNonce());
         validateRequiredConsents(request);
 
-        // 3. 비밀번호 암호화
+        // 3. 비밀번호 암호화 (트랜잭션 밖)
         String encodedPassword = passwordEncoder.encode(request.getPassword());
 
-        // 4. User 엔티티 생성 및 저장
-        User user = User.createEmailUser(request.getEmail(), encodedPassword, request.getNickname());
-        userRepository.save(user);
-
-        // 5. 동의 이력(consent_histories) 저장
-        saveAllUserConsent(user, request);
+        User user = transactionTemplate.execute(status -> {
+            // 4. User 엔티티 생성 및 저장
+            User created = User.createEmailUser(request.getEmail(), encodedPassword, request.getNickname());
+            userRepository.save(created);
+            nicknameReservations.releaseAfterCommit(created.getNickname(), request.getReservationNonce());
+
+            // 5. 동의 이력(consent_histories) 저장
+            saveAllUserConsent(created, request);
+            return created;
+        });
+        userIdentifierFilter.add(user.getEmail(), user.getNickname());
     }
 
     // ========== Private (내부용) ==========
@@ -149,12 +248,13 @@ public class AuthService {
     }
 
     /**
-     * 닉네임의 금칙어 포함 및 중복 여부를 검증한다.
+     * 닉네임의 금칙어 포함, 중복, 다른 사용자의 선점 여부를 검증한다.
      *
      * @param nickname 검사할 닉네임
-     * @throws BusinessException 금칙어 포함 또는 중복인 경우
+     * @param reservationNonce 요청자의 선점 nonce
+     * @throws BusinessException 금칙어 포함, 중복 또는 다른 사용자가 선점 중인 경우
      */
-    private void validateNickname(String nickname) {
+    private void validateNickname(String nickname, String reservationNonce) {
         // 금칙어
         if (containsForbiddenWords(nickname)) {
             throw new BusinessException(ErrorCode.FORBIDDEN_WORD);
@@ -164,6 +264,41 @@ public class AuthService {
         if (userRepository.existsByNickname(nickname)) {
             throw new BusinessException(ErrorCode.NICKNAME_ALREADY_EXISTS);
         }
+
+        // 선점 (비밀번호 해싱 전에 거절)
+        if (nicknameReservations.isHeldByOther(nickname, reservationNonce)) {
+            throw new BusinessException(ErrorCode.NICKNAME_RESERVED);
+        }
+    }
+
+    /**
+     * 후보 중 이미 사용 중인 값을 IN 쿼리 한 번으로 조회한다.
+     * DB 콜레이션은 대소문자/악센트를 구분하지 않으므로 같은 기준(Collator PRIMARY)으로 비교하는 집합을 반환한다.
+     *
+     * @param candidates Bloom Filter가 "있을 수도 있음"으로 판단한 값
+     * @param query IN 쿼리
+     * @param recordFalsePositive DB에 없었던 후보마다 호출
+     * @return 사용 중인 값 집합
+     */
+    private static Set<String> findExisting(Set<String> candidates,
+                                            Function<Collection<String>, List<String>> query,
+                                            Runnable recordFalsePositive) {
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.PRIMARY);
+
+        Set<String> existing = new TreeSet<>(collator);
+        existing.addAll(query.apply(candidates));
+
+        for (String candidate : candidates) {
+            if (!existing.contains(candidate)) {
+                recordFalsePositive.run();
+            }
+        }
+        return existing;
     }
 
     /**
@@ -190,32 +325,35 @@ public class AuthService {
      * @param request 회원가입 요청 정보
      */
     private void saveAllUserConsent(User user, SignupRequest request) {
+        List<UserConsent> userConsents = new ArrayList<>(ConsentItemCode.values().length);
+
         // 필수 약관 3개 → 동의 이력 3개
-        saveUserConsent(user, ConsentItemCode.TERMS, request.isTermsOfServiceAgreed());
-        saveUserConsent(user, ConsentItemCode.PRIVACY, request.isPrivacyPolicyAgreed());
-        saveUserConsent(user, ConsentItemCode.LOCATION, request.isLocationServiceAgreed());
+        userConsents.add(createUserConsent(user, ConsentItemCode.TERMS, request.isTermsOfServiceAgreed()));
+        userConsents.add(createUserConsent(user, ConsentItemCode.PRIVACY, request.isPrivacyPolicyAgreed()));
+        userConsents.add(createUserConsent(user, ConsentItemCode.LOCATION, request.isLocationServiceAgreed()));
 
         // 선택 약관 (동의 시)
         if (Boolean.TRUE.equals(request.getMarketingConsent())) {
-            saveUserConsent(user, ConsentItemCode.MARKETING, true);
+            userConsents.add(createUserConsent(user, ConsentItemCode.MARKETING, true));
         }
+
+        // 동의 이력을 한 번에 저장
+        userConsentRepository.saveAll(userConsents);
     }
 
     /**
-     * 특정 약관 항목에 대한 동의 이력을 저장한다.
+     * 특정 약관 항목에 대한 동의 이력을 생성한다. (저장은 saveAllUserConsent에서 한 번에)
      *
      * @param user 사용자
      * @param code 약관 항목 코드
      * @param isAgreed 동의 여부
      * @throws BusinessException 약관 항목을 찾을 수 없는 경우
      */
-    private void saveUserConsent(User user, ConsentItemCode code, Boolean isAgreed) {
-        ConsentItem consentItem = consentItemRepository.findByCodeAndIsActiveTrue(code)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CONSENT_ITEM_NOT_FOUND));
+    private UserConsent createUserConsent(User user, ConsentItemCode code, Boolean isAgreed) {
+        // 약관 항목은 카탈로그의 id로 프록시만 참조 (SELECT 없음)
+        ConsentItem consentItem = consentItemRepository.getReferenceById(consentCatalog.get(code).id());
 
-        UserConsent userConsent = UserConsent.create(user, consentItem, isAgreed);
-
-        userConsentRepository.save(userConsent);
+        return UserConsent.create(user, consentItem, isAgreed);
     }
 
     /**
@@ -238,12 +376,27 @@ public class AuthService {
      *
      * @param email 이메일
      * @param password 비밀번호
+     * @param clientIp 클라이언트 IP (시도 제한용)
      * @return Access Token과 Refresh Token
      * @throws BusinessException 이메일 또는 비밀번호가 일치하지 않는 경우
+     * @throws LoginThrottledException 시도 제한에 걸린 경우
      */
-    public TokenResponse login(String email, String password) {
-        User user = userRepository.findByEmail(email).orElseThrow(() -> new BusinessException(ErrorCode.INVALID_CREDENTIALS));
-        verifyPassword(password, user.getPassword());
+    public TokenResponse login(String email, String password, String clientIp) {
+        // DB 조회/비밀번호 검증 전에 시도 제한 확인
+        loginThrottle.checkAllowed(clientIp, email);
+
+        User user;
+        try {
+            user = userRepository.findByEmail(email).orElseThrow(() -> new BusinessException(ErrorCode.INVALID_CREDENTIALS));
+            verifyPassword(password, user.getPassword());
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == ErrorCode.INVALID_CREDENTIALS) {
+                loginThrottle.recordFailure(clientIp, email);
+            }
+            throw e;
+        }
+        loginThrottle.recordSuccess(clientIp, email);
+        rehashPasswordIfNeeded(user, password);
 
         return tokenService.createTokenResponseFrom(user);
 
@@ -262,8 +415,34 @@ public class AuthService {
         }
     }
 
+    /**
+     * 저장된 해시의 알고리즘이나 cost가 현재 설정과 다르면 다시 해싱해서 저장한다.
+     * 해싱 스레드 풀이 바쁘면 다음 로그인으로 미룬다. (로그인 자체는 실패시키지 않음)
+     *
+     * @param user 로그인한 사용자
+     * @param rawPassword 검증이 끝난 평문 비밀번호
+     */
+    private void rehashPasswordIfNeeded(User user, String rawPassword) {
+        String currentPassword = user.getPassword();
+        if (!passwordEncoder.upgradeEncoding(currentPassword)) {
+            return;
+        }
+
+        try {
+            String upgradedPassword = passwordEncoder.encode(rawPassword);
+            if (userRepository.updatePasswordIfUnchanged(user.getId(), currentPassword, upgradedPassword) > 0) {
+                log.info("[로그인] 비밀번호 재해싱 - userId: {}", user.getId());
+            }
+        } catch (RetryLaterException e) {
+            log.debug("[로그인] 비밀번호 재해싱 보류 (해싱 대기열 포화) - userId: {}", user.getId());
+        }
+    }
+
+    /**
+     * Refresh Token만 폐기한다. 이미 발급된 Access Token은 서명만으로 검증하므로 만료(30분)까지 유효하다.
+     */
     @Transactional
     public void logout(Long userId, LogoutRequest request) {
-        refreshTokenRepository.deleteByUserIdAndToken(userId, request.getRefreshToken());
+        refreshTokenRepository.deleteByUserIdAndTokenHash(userId, RefreshTokens.hash(request.getRefreshToken()));
     }
 }
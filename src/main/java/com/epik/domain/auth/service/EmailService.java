@@ -1,12 +1,10 @@
 package com.epik.domain.auth.service;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.epik.global.mail.EmailOutbox;
+import com.epik.global.mail.EmailOutboxRepository;
+import com.epik.global.mail.MailMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -14,71 +12,31 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class EmailService {
 
-    @Value("${spring.mail.username}")
-    private String fromEmail;
-
-    private final JavaMailSender mailSender;
+    private final EmailOutboxRepository emailOutboxRepository;
 
     /**
-     * 비밀번호 재설정 이메일을 발송한다.
+     * 비밀번호 재설정 이메일을 outbox에 저장한다.
+     * 호출한 트랜잭션이 커밋된 뒤 EmailOutboxRelay가 발송하므로, 토큰 저장과 함께 커밋되거나 함께 롤백된다.
      *
      * @param email 수신자 이메일
      * @param token 비밀번호 재설정 토큰
-     * @throws RuntimeException 이메일 발송 실패 시
      */
     public void sendPasswordResetEmail(String email, String token) {
 
         log.info("[Email][PasswordReset] 이메일 발송 요청 - to={}, token={}", email, token);
 
-        try {
-            // TODO: 링크 설정파일로 빼기
-            String resetDeepLink = "epik://reset-password?token=" + token;
-            log.debug("[Email][PasswordReset] DeepLink 생성 - link={}", resetDeepLink);
-
-            String htmlContent = createPasswordResetHtml(resetDeepLink);
-            log.debug("[Email][PasswordReset] HTML 템플릿 생성 완료 (길이: {} bytes)",
-                    htmlContent.length());
-
-            String subject = "[EPIK] 비밀번호 재설정 안내";
-
-            sendHtmlEmail(email, subject, htmlContent);
-
-            log.info("[Email][PasswordReset] 이메일 발송 성공 - to={}", email);
-
-        } catch (MessagingException e) {
-            log.error("[Email][PasswordReset] 이메일 발송 실패 - to={}, token={}, 원인={}",
-                    email, token, e.getMessage(), e);
-
-            // 에러를 위로 던져 PasswordService에서 캐치하도록 유지
-            throw new RuntimeException("이메일 발송에 실패했습니다", e);
-        }
-    }
-
-    /**
-     * HTML 형식의 이메일을 발송한다.
-     *
-     * @param to 수신자 이메일
-     * @param subject 이메일 제목
-     * @param htmlContent HTML 본문 내용
-     * @throws MessagingException 이메일 생성 또는 발송 실패 시
-     */
-    private void sendHtmlEmail(String to, String subject, String htmlContent) throws MessagingException {
-        log.debug("[Email] MimeMessage 생성 시작");
-
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-        helper.setFrom(fromEmail);
-        helper.setTo(to);
-        helper.setSubject(subject);
-        helper.setText(htmlContent, true);
+        // TODO: 링크 설정파일로 빼기
+        String resetDeepLink = "epik://reset-password?token=" + token;
+        log.debug("[Email][PasswordReset] DeepLink 생성 - link={}", resetDeepLink);
 
-        log.debug("[Email] MimeMessage 설정 완료 - from={}, to={}, subject={}",
-                fromEmail, to, subject);
+        String htmlContent = createPasswordResetHtml(resetDeepLink);
+        log.debug("[Email][PasswordReset] HTML 템플릿 생성 완료 (길이: {} bytes)",
+                htmlContent.length());
 
-        mailSender.send(message);
+        String subject = "[EPIK] 비밀번호 재설정 안내";
 
-        log.debug("[Email] mailSender.send() 호출 완료");
+        EmailOutbox outbox = emailOutboxRepository.save(EmailOutbox.create(new MailMessage(email, subject, htmlContent)));
+        log.info("[Email][PasswordReset] outbox 저장 - outboxId={}, to={}", outbox.getId(), email);
     }
 
     /**
@@ -4,6 +4,7 @@ import com.epik.domain.auth.entity.PasswordResetToken;
 import com.epik.domain.auth.entity.User;
 import com.epik.domain.auth.repository.PasswordResetTokenRepository;
 import com.epik.domain.auth.repository.UserRepository;
+import com.epik.domain.auth.token.RefreshTokenService;
 import com.epik.global.exception.custom.BusinessException;
 import com.epik.global.exception.ErrorCode;
 import jakarta.transaction.Transactional;
@@ -11,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
@@ -23,13 +25,17 @@ public class PasswordService {
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final EmailService emailService;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 비밀번호 재설정 이메일을 발송한다.
      * 미등록 이메일인 경우 User Enumeration 공격 방지를 위해 조용히 무시한다.
+     * 토큰과 발송할 메일(email_outbox)을 한 트랜잭션으로 저장하므로, 토큰만 저장되고 메일이 유실되는 일이 없다.
      *
      * @param email 비밀번호를 재설정할 이메일
      */
+    @Transactional
     public void sendPasswordResetEmail(String email) {
 
         log.info("[PasswordReset] 요청 수신 - email={}", email);
@@ -69,49 +75,54 @@ public class PasswordService {
                 passwordResetToken.getId(),
                 user.getId());
 
-        // 5. 이메일 전송 시도
-        try {
-            emailService.sendPasswordResetEmail(email, passwordResetToken.getToken());
-            log.info("[PasswordReset] 이메일 발송 성공 - email={}, token={}", email, passwordResetToken.getToken());
-        } catch (Exception e) {
-            log.error("[PasswordReset] 이메일 발송 실패 - email={}, token={}, 원인={}",
-                    email, passwordResetToken.getToken(), e.getMessage(), e);
-        }
+        // 5. 같은 트랜잭션에서 이메일을 outbox에 저장 (커밋 후 EmailOutboxRelay가 발송, 실패 시 재시도)
+        emailService.sendPasswordResetEmail(email, passwordResetToken.getToken());
     }
 
     /**
      * 토큰을 검증하고 비밀번호를 재설정한다.
+     * 해싱 중에는 DB 커넥션을 잡지 않도록 토큰 확인 -> 해싱 -> 짧은 트랜잭션에서 변경 순서로 처리한다.
      *
      * @param token 비밀번호 재설정 토큰
      * @param newPassword 새 비밀번호
      * @throws BusinessException 토큰이 유효하지 않거나 만료된 경우
      */
-    @Transactional
     public void resetPassword(String token, String newPassword) {
         log.info("[비밀번호 재설정] 시작");
 
-        // 1. 토큰 조회 및 검증
+        // 1. 토큰 조회 및 검증 (잘못된 토큰은 해싱 전에 거절)
+        findValidToken(token);
+
+        // 2. 비밀번호 암호화 (트랜잭션 밖)
+        String encodedPassword = passwordEncoder.encode(newPassword);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 3. 토큰 재확인 후 폐기 (해싱 중에 사용/만료된 경우 거절)
+            PasswordResetToken passwordResetToken = findValidToken(token);
+            passwordResetToken.markAsUsed();
+
+            // 4. 사용자 조회 및 비밀번호 변경
+            User user = passwordResetToken.getUser();
+            user.updatePassword(encodedPassword);
+
+            // 모든 기기의 로그인 세션 폐기 (이미 발급된 Access Token은 만료까지 유효)
+            refreshTokenService.revokeAll(user.getId());
+
+            log.info("[비밀번호 재설정] 완료 - email: {}", user.getEmail());
+        });
+    }
+
+    /**
+     * 토큰을 조회하고 유효성을 검증한다. (Entity에서 예외 발생)
+     */
+    private PasswordResetToken findValidToken(String token) {
         PasswordResetToken passwordResetToken = passwordResetTokenRepository
                 .findByToken(token)
                 .orElseThrow(() -> {
                     log.warn("[비밀번호 재설정] 실패 - 유효하지 않은 토큰");
                     return new BusinessException(ErrorCode.INVALID_TOKEN);
                 });
-
-        // 2. 토큰 유효성 검증 (Entity에서 예외 발생)
         passwordResetToken.validate();
-
-        // 3. 토큰 폐기
-        passwordResetToken.markAsUsed();
-
-        // 4. 사용자 조회
-        User user = passwordResetToken.getUser();
-        log.info("[비밀번호 재설정] 사용자 확인 - email: {}", user.getEmail());
-
-        // 5. 비밀번호 암호화 및 변경
-        String encodedPassword = passwordEncoder.encode(newPassword);
-        user.updatePassword(encodedPassword);
-
-        log.info("[비밀번호 재설정] 완료 - email: {}", user.getEmail());
+        return passwordResetToken;
     }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.epik.domain.auth.service;
+
+import com.epik.domain.auth.dto.response.TokenResponse;
+import com.epik.domain.auth.token.RefreshTokens;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 Refresh Token으로 동시에 들어온 재발급 요청을 노드 안에서 하나로 합친다.
+ *
+ * - single-flight: 같은 토큰의 재발급이 진행 중이면 새로 실행하지 않고 그 결과를 기다린다.
+ * - grace window: 재발급이 끝난 뒤 gracePeriod 동안은 직전 토큰으로 들어온 요청에 같은 토큰 쌍을 돌려준다.
+ *   (앱 재개 시 여러 API가 동시에 401을 받고 각각 /refresh를 호출하는 경우)
+ *
+ * 키는 토큰 원문 대신 SHA-256 해시를 사용한다.
+ * 다른 노드와의 경합은 RefreshToken의 낙관적 락으로 처리한다.
+ */
+@Slf4j
+@Component
+public class TokenReissueCoalescer {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final long gracePeriodNanos;
+
+    private final Map<String, CompletableFuture<TokenResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, RecentResult> recentResults = new ConcurrentHashMap<>();
+
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder graceHits = new LongAdder();
+
+    public TokenReissueCoalescer(MeterRegistry meterRegistry,
+                                 @Value("${jwt.refresh-token.reuse-grace-period:10s}") Duration gracePeriod) {
+        this.gracePeriodNanos = gracePeriod.toNanos();
+
+        FunctionCounter.builder("auth.refresh.coalesced", coalesced, LongAdder::sum)
+                .description("진행 중인 재발급 결과를 공유한 요청 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.refresh.grace_hits", graceHits, LongAdder::sum)
+                .description("grace 기간 안에 직전 토큰으로 같은 토큰 쌍을 받은 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 Refresh Token에 대한 재발급을 한 번만 실행한다.
+     *
+     * @param refreshToken 요청으로 전달된 Refresh Token 원문
+     * @param reissue      실제 재발급 로직
+     * @return 새 토큰 쌍 (동시 요청/grace 기간 내 요청은 같은 값)
+     */
+    public TokenResponse execute(String refreshToken, Supplier<TokenResponse> reissue) {
+        String key = HEX.formatHex(RefreshTokens.hash(refreshToken));
+
+        // 1. 방금 교체된 토큰이면 같은 결과 반환
+        RecentResult recent = recentResults.get(key);
+        if (recent != null) {
+            if (recent.isValid(System.nanoTime())) {
+                graceHits.increment();
+                return recent.response();
+            }
+            recentResults.remove(key, recent);
+        }
+
+        // 2. 진행 중인 재발급이 있으면 결과를 기다림
+        CompletableFuture<TokenResponse> future = new CompletableFuture<>();
+        CompletableFuture<TokenResponse> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        // 3. 직접 재발급
+        try {
+            TokenResponse response = reissue.get();
+            // inFlight에서 빠지기 전에 등록해야 뒤늦게 들어온 요청도 결과를 받는다
+            recentResults.put(key, new RecentResult(response, System.nanoTime() + gracePeriodNanos));
+            future.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * grace 기간이 지난 결과 정리
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.reuse-grace-period:10s}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        recentResults.values().removeIf(result -> !result.isValid(now));
+    }
+
+    private static TokenResponse await(CompletableFuture<TokenResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 대표 요청과 같은 예외(BusinessException 등)를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record RecentResult(TokenResponse response, long expiresAtNanos) {
+
+        boolean isValid(long now) {
+            return now - expiresAtNanos < 0;
+        }
+    }
+}
@@ -2,11 +2,10 @@ package com.epik.domain.auth.service;
 
 import com.epik.domain.auth.dto.response.TokenResponse;
 import com.epik.domain.auth.entity.User;
+import com.epik.global.security.jwt.IssuedToken;
 import com.epik.global.security.jwt.JwtProvider;
-import com.epik.domain.auth.repository.UserRepository;
-import com.epik.domain.auth.token.RefreshToken;
-import com.epik.domain.auth.token.RefreshTokenRepository;
 import com.epik.domain.auth.token.RefreshTokenService;
+import com.epik.domain.auth.token.RotatedRefreshToken;
 import com.epik.domain.oauth.dto.enums.SocialProvider;
 import com.epik.domain.oauth.dto.SocialRegisterPayload;
 import com.epik.global.exception.custom.BusinessException;
@@ -15,10 +14,9 @@ import io.jsonwebtoken.Claims;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -26,8 +24,7 @@ public class TokenService {
 
     private final JwtProvider jwtProvider;
     private final RefreshTokenService refreshTokenService;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final UserRepository userRepository;
+    private final TokenReissueCoalescer tokenReissueCoalescer;
 
     /**
      * Access Token과 Refresh Token을 생성하고 응답 DTO로 반환한다.
@@ -37,64 +34,38 @@ public class TokenService {
      */
     @Transactional
     public TokenResponse createTokenResponseFrom(User user) {
-        String accessToken = jwtProvider.createAccessToken(user.getId(), user.getRole());
-        String refreshToken = jwtProvider.createRefreshToken(user.getId(), user.getRole());
-        LocalDateTime expiryAt = jwtProvider.extractExpiry(refreshToken);
-        refreshTokenService.saveOrUpdate(user, refreshToken, expiryAt);
+        IssuedToken accessToken = jwtProvider.createAccessToken(user.getId(), user.getRole());
+        String refreshToken = refreshTokenService.issue(user);
 
-        return new TokenResponse(accessToken, refreshToken);
+        return new TokenResponse(accessToken.token(), refreshToken);
     }
 
     /**
      * Refresh Token을 검증하고 새로운 토큰 쌍을 재발급한다.
+     * 같은 토큰으로 동시에 들어온 요청은 한 번만 재발급하고 같은 토큰 쌍을 돌려준다.
      *
      * @param refreshToken 재발급 요청에 사용된 Refresh Token
      * @return 새로 생성된 Access Token과 Refresh Token
-     * @throws BusinessException 토큰이 유효하지 않거나 DB에 존재하지 않는 경우
+     * @throws BusinessException 토큰이 DB에 존재하지 않거나 만료된 경우, 다른 노드에서 이미 재발급된 경우
      */
-    @Transactional
     public TokenResponse reissue(String refreshToken) {
-        // refresh token 유효성 검증 후 userId 추출
-        Claims claims = jwtProvider.validateAndGetClaims(refreshToken);
-        Long userId = Long.parseLong(claims.getSubject());
-
-        // DB 검증
-        RefreshToken storedToken = refreshTokenRepository.findByUserId(userId)
-                .orElseThrow(() -> {
-                    log.error("리프레시 토큰 미존재: userId={}", userId);
-                    return new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
-                });
-
-        // DB 값과 요청 값 일치 여부 확인
-        validateRefreshTokenValue(refreshToken, storedToken);
-
-        // 유저 조회 (role 최신화)
-        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        // 새 토큰 생성
-        String newAccessToken = jwtProvider.createAccessToken(user.getId(), user.getRole());
-        String newRefreshToken = jwtProvider.createRefreshToken(user.getId(), user.getRole());
-
-        // 기존 refreshToken 무효화 + 새 토큰 저장
-        LocalDateTime expiryAt = jwtProvider.extractExpiry(newRefreshToken);
-        refreshTokenService.saveOrUpdate(user, refreshToken, expiryAt);
-
-        return new TokenResponse(newAccessToken, newRefreshToken);
+        return tokenReissueCoalescer.execute(refreshToken, () -> rotateAndIssue(refreshToken));
     }
 
     /**
-     * 요청된 Refresh Token과 DB에 저장된 토큰의 일치 여부를 검증한다.
-     *
-     * @param refreshToken 요청으로 전달된 토큰
-     * @param storedToken DB에 저장된 토큰 엔티티
-     * @throws BusinessException 토큰이 일치하지 않는 경우
+     * Refresh Token 교체(트랜잭션 커밋까지) 후 Access Token을 발급한다.
      */
-    private void validateRefreshTokenValue(String refreshToken, RefreshToken storedToken) {
-        if (!storedToken.getToken().equals(refreshToken)) {
-            log.warn("[Security] RefreshToken mismatch - userId={}", storedToken.getUser().getId());
-            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+    private TokenResponse rotateAndIssue(String refreshToken) {
+        RotatedRefreshToken rotated;
+        try {
+            rotated = refreshTokenService.rotate(refreshToken);
+        } catch (OptimisticLockingFailureException e) {
+            log.info("[RefreshToken] 다른 노드에서 먼저 재발급됨");
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_ALREADY_ROTATED);
         }
+
+        IssuedToken newAccessToken = jwtProvider.createAccessToken(rotated.userId(), rotated.role());
+        return new TokenResponse(newAccessToken.token(), rotated.refreshToken());
     }
 
     /**
@@ -105,7 +76,7 @@ public class TokenService {
      * @return Register Token
      */
     public String createRegisterToken(SocialProvider providerName, String socialId, String email) {
-        return jwtProvider.createRegisterToken(providerName, socialId, email);
+        return jwtProvider.createRegisterToken(providerName, socialId, email).token();
     }
 
 //    /**
@@ -0,0 +1,179 @@
+package com.epik.domain.auth.throttle;
+
+import com.epik.domain.auth.availability.IdentifierKeys;
+import com.epik.global.common.dto.ApiResponse;
+import com.epik.global.exception.ErrorCode;
+import com.epik.global.exception.custom.LoginThrottledException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도 제한 (credential stuffing 방어).
+ *
+ * AuthService.login이 DB 조회와 비밀번호 검증 전에 호출한다.
+ * - 클라이언트 IP별, (이메일, IP)별, 이메일별 토큰 버킷을 모두 통과해야 한다.
+ *   이메일별 버킷을 작게 잡으면 아무나 남의 이메일로 시도해서 계정 주인을 429로 묶어둘 수 있으므로,
+ *   작은 제한은 (이메일, IP) 단위로 걸고 이메일 전체에는 여러 IP에서 분산된 시도만 막는 큰 제한(account)을 건다.
+ * - (이메일, IP)별로 failureWindow 안에 maxFailures번 실패하면 duration 동안 잠근다.
+ *   이메일만으로 잠그면 아무나 남의 계정을 잠글 수 있으므로 계정 전체 잠금은 lockout.account-wide로 켠다.
+ * - 거절은 DB/해싱 없이 메모리 조회만으로 끝나고, 429 응답 본문은 미리 직렬화해둔 것을 사용한다.
+ *
+ * 상태는 노드 메모리에만 있으므로 다중 노드에서는 노드 수만큼 허용량이 늘어난다.
+ * 프록시 뒤에서는 server.forward-headers-strategy(native)로 신뢰하는 프록시의 X-Forwarded-For만 반영해야
+ * 실제 클라이언트 IP로 제한된다.
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private static final Duration SWEEP_TICK = Duration.ofSeconds(1);
+
+    private final LoginThrottleProperties properties;
+    private final TokenBucketTable ipBuckets;
+    // (이메일, IP)별 버킷. 연속 실패 잠금도 같은 키에 기록한다.
+    private final TokenBucketTable emailBuckets;
+    private final TokenBucketTable accountBuckets;
+    private final byte[] rejectionBody;
+
+    private final Counter ipRejections;
+    private final Counter emailRejections;
+    private final Counter accountRejections;
+    private final Counter lockouts;
+
+    public LoginThrottle(LoginThrottleProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        long now = System.nanoTime();
+        this.ipBuckets = new TokenBucketTable(properties.ip().capacity(), properties.ip().refillInterval(), SWEEP_TICK, now);
+        this.emailBuckets = new TokenBucketTable(properties.email().capacity(), properties.email().refillInterval(), SWEEP_TICK, now);
+        this.accountBuckets = new TokenBucketTable(properties.account().capacity(), properties.account().refillInterval(), SWEEP_TICK, now);
+
+        try {
+            this.rejectionBody = objectMapper.writeValueAsBytes(ApiResponse.error(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("429 응답 본문을 만들 수 없습니다.", e);
+        }
+
+        this.ipRejections = Counter.builder("auth.login_throttle.rejected")
+                .description("로그인 시도 제한으로 거절된 요청 수")
+                .tag("scope", "ip")
+                .register(meterRegistry);
+        this.emailRejections = Counter.builder("auth.login_throttle.rejected")
+                .description("로그인 시도 제한으로 거절된 요청 수")
+                .tag("scope", "email")
+                .register(meterRegistry);
+        this.accountRejections = Counter.builder("auth.login_throttle.rejected")
+                .description("로그인 시도 제한으로 거절된 요청 수")
+                .tag("scope", "account")
+                .register(meterRegistry);
+        this.lockouts = Counter.builder("auth.login_throttle.lockouts")
+                .description("연속 실패로 잠긴 이메일(+ IP) 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.login_throttle.keys", ipBuckets, TokenBucketTable::size)
+                .tag("scope", "ip")
+                .register(meterRegistry);
+        Gauge.builder("auth.login_throttle.keys", emailBuckets, TokenBucketTable::size)
+                .tag("scope", "email")
+                .register(meterRegistry);
+        Gauge.builder("auth.login_throttle.keys", accountBuckets, TokenBucketTable::size)
+                .tag("scope", "account")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도를 허용할지 확인한다.
+     *
+     * @param clientIp 클라이언트 IP
+     * @param email    로그인 이메일
+     * @throws LoginThrottledException 제한에 걸린 경우 (429)
+     */
+    public void checkAllowed(String clientIp, String email) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+
+        long ipWait = ipBuckets.tryAcquire(clientIp, now);
+        if (ipWait > 0) {
+            ipRejections.increment();
+            throw rejected(ipWait);
+        }
+
+        // (이메일, IP) 버킷은 잠금과 같은 키라 tryAcquire가 잠금도 확인한다
+        String emailKey = emailKey(email);
+        long emailWait = emailBuckets.tryAcquire(lockoutKey(emailKey, clientIp), now);
+        if (emailWait > 0) {
+            emailRejections.increment();
+            throw rejected(emailWait);
+        }
+
+        long accountWait = accountBuckets.tryAcquire(emailKey, now);
+        if (accountWait > 0) {
+            accountRejections.increment();
+            throw rejected(accountWait);
+        }
+    }
+
+    /**
+     * 이메일/비밀번호 불일치를 기록한다.
+     */
+    public void recordFailure(String clientIp, String email) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        LoginThrottleProperties.Lockout lockout = properties.lockout();
+        boolean locked = emailBuckets.recordFailure(lockoutKey(emailKey(email), clientIp), System.nanoTime(),
+                lockout.maxFailures(), lockout.failureWindow(), lockout.duration());
+        if (locked) {
+            lockouts.increment();
+            log.warn("[로그인 제한] 연속 실패로 잠금 - {}분", lockout.duration().toMinutes());
+        }
+    }
+
+    /**
+     * 로그인 성공 시 실패 횟수를 초기화한다.
+     */
+    public void recordSuccess(String clientIp, String email) {
+        if (properties.enabled()) {
+            emailBuckets.resetFailures(lockoutKey(emailKey(email), clientIp));
+        }
+    }
+
+    /**
+     * 가득 찬 버킷과 만료된 잠금을 정리한다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void sweep() {
+        long now = System.nanoTime();
+        ipBuckets.sweep(now);
+        emailBuckets.sweep(now);
+        accountBuckets.sweep(now);
+    }
+
+    private LoginThrottledException rejected(long waitNanos) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        return new LoginThrottledException(retryAfterSeconds, rejectionBody);
+    }
+
+    private static String emailKey(String email) {
+        return IdentifierKeys.of(email.strip());
+    }
+
+    /**
+     * (이메일, IP) 버킷과 연속 실패 잠금의 키. 계정 전체 잠금이면 이메일 키를 그대로 쓴다.
+     */
+    private String lockoutKey(String emailKey, String clientIp) {
+        return properties.lockout().accountWide() ? emailKey : emailKey + '\n' + clientIp;
+    }
+}
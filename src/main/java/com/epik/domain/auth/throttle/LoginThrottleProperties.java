@@ -0,0 +1,61 @@
+package com.epik.domain.auth.throttle;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 로그인 시도 제한 설정 (auth.login-throttle.*)
+ *
+ * @param enabled 사용 여부
+ * @param ip      클라이언트 IP별 제한 (기본 30회, 2초마다 1회 회복)
+ * @param email   (이메일, IP)별 제한 (기본 5회, 12초마다 1회 회복)
+ * @param account 이메일별 제한 (기본 100회, 1초마다 1회 회복). 여러 IP로 분산된 시도만 막도록 크게 잡는다.
+ * @param lockout 이메일(+ IP)별 연속 실패 잠금
+ */
+@ConfigurationProperties(prefix = "auth.login-throttle")
+public record LoginThrottleProperties(
+        @DefaultValue("true") boolean enabled,
+        Limit ip,
+        Limit email,
+        Limit account,
+        @DefaultValue Lockout lockout
+) {
+
+    public LoginThrottleProperties {
+        if (ip == null) {
+            ip = new Limit(30, Duration.ofSeconds(2));
+        }
+        if (email == null) {
+            email = new Limit(5, Duration.ofSeconds(12));
+        }
+        if (account == null) {
+            account = new Limit(100, Duration.ofSeconds(1));
+        }
+    }
+
+    /**
+     * @param capacity       한 번에 허용하는 최대 시도 수 (버킷 크기)
+     * @param refillInterval 시도 1회가 회복되는 시간
+     */
+    public record Limit(
+            int capacity,
+            Duration refillInterval
+    ) {
+    }
+
+    /**
+     * @param maxFailures   failureWindow 안에서 이 횟수만큼 실패하면 잠금
+     * @param failureWindow 마지막 실패 후 실패 횟수를 유지하는 시간
+     * @param duration      잠금 시간
+     * @param accountWide   true면 IP와 관계없이 이메일 단위로 잠금 (누구나 남의 계정을 잠글 수 있으므로 기본은 이메일 + IP)
+     */
+    public record Lockout(
+            @DefaultValue("10") int maxFailures,
+            @DefaultValue("15m") Duration failureWindow,
+            @DefaultValue("15m") Duration duration,
+            @DefaultValue("false") boolean accountWide
+    ) {
+    }
+}
@@ -0,0 +1,196 @@
+package com.epik.domain.auth.throttle;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 + 연속 실패 잠금 테이블.
+ *
+ * - 버킷 상태는 GCRA 방식으로 "다음 토큰이 가득 차는 시각(tat)" long 하나로 표현하고 CAS로만 갱신한다. (락 없음)
+ *   용량 capacity, 토큰 1개 회복 시간 refillInterval인 토큰 버킷과 같은 결과를 낸다.
+ * - 실패 횟수는 마지막 실패 후 failureWindow 동안 유지되고, 그 안에 maxFailures번 실패하면 lockDuration 동안 잠근다.
+ * - 버킷이 가득 차고 잠금/실패 기록도 만료된 키는 더 이상 필요 없으므로 타이밍 휠로 찾아 제거한다.
+ *   키마다 "제거 가능 시각"의 슬롯에 한 번만 등록하고, sweep()이 지난 슬롯만 확인한다. (전체 순회 없음)
+ *
+ * 시각은 System.nanoTime() 기준 값을 인자로 받는다.
+ */
+public final class TokenBucketTable {
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final long refillIntervalNanos;
+    // 비어 있는 버킷에서 꺼낼 수 있는 최대 토큰 수 - 1 만큼의 시간
+    private final long burstToleranceNanos;
+    private final long tickNanos;
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    @SuppressWarnings("unchecked")
+    private final Queue<String>[] wheel = new Queue[WHEEL_SIZE];
+    private volatile long cursorTick;
+
+    public TokenBucketTable(int capacity, Duration refillInterval, Duration tick, long nowNanos) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다.");
+        }
+        this.refillIntervalNanos = refillInterval.toNanos();
+        this.burstToleranceNanos = (capacity - 1) * refillIntervalNanos;
+        this.tickNanos = tick.toNanos();
+        this.cursorTick = nowNanos / tickNanos;
+
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * 토큰 하나를 꺼낸다.
+     *
+     * @return 허용되면 0, 거절되면 다음 토큰까지 남은 나노초 (잠금 중이면 잠금 해제까지)
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(nowNanos));
+
+        long lockedFor = bucket.lockedUntil - nowNanos;
+        if (lockedFor > 0) {
+            return lockedFor;
+        }
+
+        while (true) {
+            long tat = bucket.tat.get();
+            long base = Math.max(tat, nowNanos);
+            long waitNanos = base - burstToleranceNanos - nowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            long newTat = base + refillIntervalNanos;
+            if (bucket.tat.compareAndSet(tat, newTat)) {
+                schedule(key, bucket, newTat);
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 토큰을 꺼내지 않고 잠금 여부만 확인한다. (잠금 전용 키)
+     *
+     * @return 잠금 중이면 잠금 해제까지 남은 나노초, 아니면 0
+     */
+    public long lockedFor(String key, long nowNanos) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            return 0;
+        }
+        return Math.max(0, bucket.lockedUntil - nowNanos);
+    }
+
+    /**
+     * 실패를 기록한다. failureWindow 안의 실패가 maxFailures에 도달하면 lockDuration 동안 잠근다.
+     *
+     * @return 이번 실패로 잠겼으면 true
+     */
+    public boolean recordFailure(String key, long nowNanos, int maxFailures,
+                                 Duration failureWindow, Duration lockDuration) {
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(nowNanos));
+        if (bucket.failuresExpireAt <= nowNanos) {
+            bucket.failures.set(0);
+        }
+        bucket.failuresExpireAt = nowNanos + failureWindow.toNanos();
+
+        boolean locked = false;
+        if (bucket.failures.incrementAndGet() >= maxFailures) {
+            bucket.failures.set(0);
+            bucket.lockedUntil = nowNanos + lockDuration.toNanos();
+            locked = true;
+        }
+        schedule(key, bucket, bucket.idleAt());
+        return locked;
+    }
+
+    /**
+     * 연속 실패 횟수를 초기화한다. (로그인 성공)
+     */
+    public void resetFailures(String key) {
+        Bucket bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.failures.set(0);
+        }
+    }
+
+    /**
+     * 현재 시각까지 지난 슬롯의 키를 확인해서, 버킷이 가득 차고 잠금이 풀린 키를 제거한다.
+     * 아직 필요한 키는 새 제거 가능 시각의 슬롯으로 다시 등록한다. (단일 스레드에서 주기적으로 호출)
+     *
+     * @return 제거한 키 수
+     */
+    public synchronized int sweep(long nowNanos) {
+        long nowTick = nowNanos / tickNanos;
+        long tick = Math.max(cursorTick, nowTick - WHEEL_SIZE + 1);
+        int removed = 0;
+
+        while (tick <= nowTick) {
+            // 다시 등록되는 키가 지금 비우는 슬롯에 들어가지 않도록 커서를 먼저 옮긴다
+            cursorTick = tick + 1;
+
+            Queue<String> slot = wheel[(int) (tick & WHEEL_MASK)];
+            String key;
+            while ((key = slot.poll()) != null) {
+                Bucket bucket = buckets.get(key);
+                if (bucket == null) {
+                    continue;
+                }
+                bucket.scheduled.set(false);
+
+                long idleAt = bucket.idleAt();
+                if (idleAt <= nowNanos) {
+                    if (buckets.remove(key, bucket)) {
+                        removed++;
+                    }
+                } else {
+                    schedule(key, bucket, Math.max(idleAt, nowNanos + tickNanos));
+                }
+            }
+            tick++;
+        }
+        return removed;
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private void schedule(String key, Bucket bucket, long deadlineNanos) {
+        if (!bucket.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        // 휠 한 바퀴보다 먼 시각은 마지막 슬롯에 넣고, 그때 다시 등록한다 (비우는 중인 슬롯에 다시 들어가지 않도록)
+        long current = cursorTick;
+        long tick = Math.min(Math.max(deadlineNanos / tickNanos, current), current + WHEEL_SIZE - 2);
+        wheel[(int) (tick & WHEEL_MASK)].offer(key);
+    }
+
+    private static final class Bucket {
+
+        // 버킷이 다시 가득 차는 시각 (theoretical arrival time)
+        private final AtomicLong tat;
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long lockedUntil;
+        private volatile long failuresExpireAt;
+
+        private Bucket(long nowNanos) {
+            this.tat = new AtomicLong(nowNanos);
+            this.lockedUntil = nowNanos;
+            this.failuresExpireAt = nowNanos;
+        }
+
+        long idleAt() {
+            return Math.max(tat.get(), Math.max(lockedUntil, failuresExpireAt));
+        }
+    }
+}
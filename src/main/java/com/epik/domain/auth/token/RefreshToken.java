@@ -1,25 +1,53 @@
 package com.epik.domain.auth.token;
 
 import com.epik.domain.auth.entity.User;
+import com.epik.global.common.IdGenerators;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
+/**
+ * 기기(로그인 세션)별 Refresh Token.
+ *
+ * 로그인할 때마다 새 family(행)가 만들어지고, 재발급 시에는 같은 행의 토큰 해시만 교체한다.
+ * 교체된 토큰 해시는 RefreshTokenTombstone으로 남겨서, 이미 교체된 토큰이 다시 사용되면 탈취로 보고 family를 폐기한다.
+ */
 @Getter
 @Entity
-@Table(name = "refresh_tokens")
+@Table(
+        name = "refresh_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_tokens_token_hash", columnNames = "token_hash"),
+        indexes = @Index(name = "idx_refresh_tokens_user_id_family_id", columnList = "user_id, family_id")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 public class RefreshToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "refresh_token_id")
+    @TableGenerator(name = "refresh_token_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "refresh_tokens", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
-    @Column(nullable = false, length = 512)
-    private String token;
+    // Refresh Token 원문의 SHA-256 해시 (원문은 저장하지 않는다)
+    @Column(name = "token_hash", nullable = false, columnDefinition = "BINARY(32)")
+    private byte[] tokenHash;
+
+    // 로그인 세션 식별자 (재발급되어도 유지)
+    @Column(name = "family_id", nullable = false, columnDefinition = "CHAR(36)")
+    private String familyId;
+
+    // 재발급(교체) 횟수
+    @Column(name = "rotation_counter", nullable = false)
+    @Builder.Default
+    private int rotationCounter = 0;
+
+    // 다른 노드의 동시 재발급 감지 (낙관적 락)
+    @Version
+    private Long version;
 
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
@@ -35,8 +63,16 @@ public class RefreshToken {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    public void update(String refreshToken, LocalDateTime expiredAt) {
-        this.token = refreshToken;
+    /**
+     * 토큰을 새 값으로 교체한다. 기존 해시는 호출 측에서 RefreshTokenTombstone으로 남긴다.
+     */
+    public void rotate(byte[] newTokenHash, LocalDateTime expiredAt) {
+        this.tokenHash = newTokenHash;
         this.expiresAt = expiredAt;
+        this.rotationCounter++;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
     }
 }
@@ -1,11 +1,34 @@
 package com.epik.domain.auth.token;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByUserId(Long id);
+    // 재발급용: uk_refresh_tokens_token_hash로 토큰을 찾고 사용자(role, deletedAt)까지 한 번의 쿼리로 조회
+    @Query("""
+        SELECT r
+        FROM RefreshToken r
+        JOIN FETCH r.user
+        WHERE r.tokenHash = :tokenHash
+    """)
+    Optional<RefreshToken> findWithUserByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    // 세션 수 제한: 사용 기록이 오래된(만료 시각이 빠른) 순서
+    List<RefreshToken> findAllByUserIdOrderByExpiresAtAsc(Long userId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.user.id = :userId AND r.familyId = :familyId")
+    int deleteFamily(@Param("userId") Long userId, @Param("familyId") String familyId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
 
-    void deleteByUserIdAndToken(Long userId, String token);
+    void deleteByUserIdAndTokenHash(Long userId, byte[] tokenHash);
 }
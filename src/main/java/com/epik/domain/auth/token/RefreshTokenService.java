@@ -1,50 +1,180 @@
 package com.epik.domain.auth.token;
 
 import com.epik.domain.auth.entity.User;
+import com.epik.global.exception.ErrorCode;
+import com.epik.global.exception.custom.BusinessException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
+import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
+    @Value("${jwt.refresh-token.expiration}")
+    private long refreshTokenExpiration;
+
+    @Value("${jwt.refresh-token.max-sessions-per-user:5}")
+    private int maxSessionsPerUser;
+
+    @Value("${jwt.refresh-token.reuse-grace-period:10s}")
+    private Duration reuseGracePeriod;
+
     private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenTombstoneRepository refreshTokenTombstoneRepository;
 
     /**
-     * Refresh Token 저장 또는 갱신
+     * 새 로그인 세션(family)을 만들고 Refresh Token을 발급한다.
      *
-     * 사용자별로 하나의 Refresh Token만 유지하는 정책에 따라,
-     * 기존에 저장된 Refresh Token이 존재하면 새로운 토큰 값과 만료 시간으로 갱신하고,
-     * 존재하지 않으면 새롭게 저장한다.
+     * 사용자별 세션 수가 maxSessionsPerUser를 넘으면 만료된 세션과
+     * 가장 오래 사용하지 않은 세션부터 제거한다.
      *
-     * @param user     토큰을 소유한 사용자
-     * @param token    새로 생성된 Refresh Token 문자열
-     * @param expiryAt Refresh Token의 만료 시각
+     * @param user 토큰을 소유한 사용자
+     * @return 클라이언트에 전달할 Refresh Token 원문
      */
     @Transactional
-    public void saveOrUpdate(User user, String token, LocalDateTime expiryAt) {
-
-        // 사용자별로 저장된 Refresh Token 조회
-        Optional<RefreshToken> savedToken = refreshTokenRepository.findByUserId(user.getId());
-
-        // 존재한다면 -> 토큰 값과 만료 시간을 업데이트
-        if (savedToken.isPresent()) {
-            RefreshToken refreshToken = savedToken.get();
-            refreshToken.update(token, expiryAt);
-
-        } else {
-            // 존재하지 않는다면 -> 새 엔티티 생성 후 저장
-            refreshTokenRepository.save(
-                    RefreshToken.builder()
-                            .token(token)
-                            .user(user)
-                            .expiresAt(expiryAt)
-                            .build()
-            );
+    public String issue(User user) {
+        evictSessions(user.getId());
+
+        String token = RefreshTokens.generate();
+        refreshTokenRepository.save(
+                RefreshToken.builder()
+                        .tokenHash(RefreshTokens.hash(token))
+                        .familyId(UUID.randomUUID().toString())
+                        .user(user)
+                        .expiresAt(LocalDateTime.now().plus(refreshTokenLifetime()))
+                        .build()
+        );
+        return token;
+    }
+
+    /**
+     * Refresh Token을 검증하고 같은 family 행의 토큰을 새 값으로 교체한다.
+     *
+     * - 교체된 토큰은 RefreshTokenTombstone으로 남기고, 이미 교체된 토큰(몇 세대 전이든)이 다시 들어오면
+     *   탈취된 것으로 보고 해당 family를 폐기한다.
+     *   단, 교체 직후 reuseGracePeriod 이내라면 다른 노드의 동시 요청으로 보고 폐기하지 않는다.
+     * - 폐기는 예외를 던진 뒤에도 커밋되어야 하므로 BusinessException은 롤백하지 않는다. (폐기 외에는 교체 전에 쓰기가 없음)
+     * - 다른 노드가 같은 행을 먼저 교체했다면 커밋 시 낙관적 락 예외가 발생한다.
+     *
+     * @param token 요청으로 전달된 Refresh Token 원문
+     * @return 새 Refresh Token과 사용자 정보
+     * @throws BusinessException 토큰이 없거나(폐기/위조/재사용) 만료되었거나 사용자가 없는 경우
+     * @throws org.springframework.dao.OptimisticLockingFailureException 다른 노드가 먼저 교체한 경우
+     */
+    @Transactional(dontRollbackOn = BusinessException.class)
+    public RotatedRefreshToken rotate(String token) {
+        byte[] tokenHash = RefreshTokens.hash(token);
+        LocalDateTime now = LocalDateTime.now();
+
+        // 토큰 + 사용자(role 최신화) 한 번에 조회
+        RefreshToken storedToken = refreshTokenRepository.findWithUserByTokenHash(tokenHash)
+                .orElseThrow(() -> handleUnknownToken(tokenHash, now));
+
+        if (storedToken.isExpired(now)) {
+            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
+
+        // 탈퇴한 사용자
+        User user = storedToken.getUser();
+        if (user.getDeletedAt() != null) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        LocalDateTime previousExpiresAt = storedToken.getExpiresAt();
+        String newToken = RefreshTokens.generate();
+        storedToken.rotate(RefreshTokens.hash(newToken), now.plus(refreshTokenLifetime()));
+        // 다른 노드와의 경합은 tombstone의 유니크 제약보다 먼저 낙관적 락 예외로 드러나도록 먼저 반영
+        refreshTokenRepository.flush();
+
+        // 교체된 토큰은 원래 만료 시각까지 재사용 감지용으로 보관
+        refreshTokenTombstoneRepository.save(RefreshTokenTombstone.of(
+                tokenHash, user.getId(), storedToken.getFamilyId(), now, previousExpiresAt));
+
+        return new RotatedRefreshToken(user.getId(), user.getRole(), newToken);
+    }
+
+    /**
+     * 사용자의 모든 로그인 세션을 폐기한다. (비밀번호 변경 등)
+     *
+     * @param userId 사용자 식별자
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        int revoked = refreshTokenRepository.deleteAllByUserId(userId);
+        log.info("[RefreshToken] 전체 세션 폐기 - userId={}, count={}", userId, revoked);
+    }
+
+    /**
+     * 원래 만료 시각이 지난 tombstone 정리 (만료된 토큰은 재사용 감지 없이도 거부된다)
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.tombstone-cleanup-interval:3600000}")
+    @Transactional
+    public void deleteExpiredTombstones() {
+        int deleted = refreshTokenTombstoneRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.debug("[RefreshToken] 만료된 tombstone {}건 삭제", deleted);
+        }
+    }
+
+    // ========== Private (내부용) ==========
+
+    /**
+     * 저장되지 않은 토큰 처리. 이미 교체된 토큰이면 재사용으로 보고 family를 폐기한다.
+     *
+     * @return 던질 예외
+     */
+    private BusinessException handleUnknownToken(byte[] tokenHash, LocalDateTime now) {
+        RefreshTokenTombstone reused = refreshTokenTombstoneRepository.findByTokenHash(tokenHash).orElse(null);
+        if (reused == null) {
+            log.warn("[Security] 저장되지 않은 RefreshToken 요청");
+            return new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        Long userId = reused.getUserId();
+        if (reused.getRotatedAt().plus(reuseGracePeriod).isAfter(now)) {
+            log.info("[RefreshToken] 교체 직후 이전 토큰 요청 - userId={}, familyId={}", userId, reused.getFamilyId());
+            return new BusinessException(ErrorCode.REFRESH_TOKEN_ALREADY_ROTATED);
+        }
+
+        log.warn("[Security] RefreshToken 재사용 감지 - family 폐기: userId={}, familyId={}, rotatedAt={}",
+                userId, reused.getFamilyId(), reused.getRotatedAt());
+        refreshTokenRepository.deleteFamily(userId, reused.getFamilyId());
+        refreshTokenTombstoneRepository.deleteFamily(userId, reused.getFamilyId());
+        return new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+    }
+
+    /**
+     * 새 세션을 위한 자리를 만든다. 만료된 세션은 모두 지우고, 남은 세션이 제한 이상이면 오래된 순서로 지운다.
+     */
+    private void evictSessions(Long userId) {
+        List<RefreshToken> sessions = refreshTokenRepository.findAllByUserIdOrderByExpiresAtAsc(userId);
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int remaining = sessions.size();
+
+        for (RefreshToken session : sessions) {
+            if (!session.isExpired(now) && remaining < maxSessionsPerUser) {
+                break;
+            }
+            refreshTokenRepository.delete(session);
+            remaining--;
+        }
+    }
+
+    private Duration refreshTokenLifetime() {
+        return Duration.ofMillis(refreshTokenExpiration);
     }
 }
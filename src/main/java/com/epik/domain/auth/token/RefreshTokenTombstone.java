@@ -0,0 +1,64 @@
+package com.epik.domain.auth.token;
+
+import com.epik.global.common.IdGenerators;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 교체되어 더 이상 유효하지 않은 Refresh Token의 해시.
+ *
+ * 교체될 때마다 이전 토큰 해시를 남겨서, 몇 세대 전 토큰이든 다시 사용되면 family를 폐기할 수 있게 한다.
+ * 원래 토큰의 만료 시각이 지나면 어차피 사용할 수 없으므로 삭제한다.
+ */
+@Getter
+@Entity
+@Table(
+        name = "refresh_token_tombstones",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_tombstones_token_hash", columnNames = "token_hash"),
+        indexes = {
+                @Index(name = "idx_refresh_token_tombstones_user_id_family_id", columnList = "user_id, family_id"),
+                @Index(name = "idx_refresh_token_tombstones_expires_at", columnList = "expires_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshTokenTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "refresh_token_tombstone_id")
+    @TableGenerator(name = "refresh_token_tombstone_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "refresh_token_tombstones", allocationSize = IdGenerators.ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, columnDefinition = "BINARY(32)")
+    private byte[] tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "family_id", nullable = false, columnDefinition = "CHAR(36)")
+    private String familyId;
+
+    // 이 토큰이 교체된 시각 (동시 재발급 grace 판단용)
+    @Column(name = "rotated_at", nullable = false)
+    private LocalDateTime rotatedAt;
+
+    // 교체된 토큰의 원래 만료 시각
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public static RefreshTokenTombstone of(byte[] tokenHash, Long userId, String familyId,
+                                           LocalDateTime rotatedAt, LocalDateTime expiresAt) {
+        RefreshTokenTombstone tombstone = new RefreshTokenTombstone();
+        tombstone.tokenHash = tokenHash;
+        tombstone.userId = userId;
+        tombstone.familyId = familyId;
+        tombstone.rotatedAt = rotatedAt;
+        tombstone.expiresAt = expiresAt;
+        return tombstone;
+    }
+}
@@ -0,0 +1,23 @@
+package com.epik.domain.auth.token;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenTombstoneRepository extends JpaRepository<RefreshTokenTombstone, Long> {
+
+    // 재사용 감지: 이미 교체된 토큰인지 확인 (몇 세대 전 토큰이든)
+    Optional<RefreshTokenTombstone> findByTokenHash(byte[] tokenHash);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenTombstone t WHERE t.userId = :userId AND t.familyId = :familyId")
+    int deleteFamily(@Param("userId") Long userId, @Param("familyId") String familyId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenTombstone t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,51 @@
+package com.epik.domain.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Opaque Refresh Token 생성/해시 유틸.
+ *
+ * - Refresh Token은 256bit 난수를 Base64URL로 인코딩한 문자열이다. (JWT 아님, 서버 DB에서만 의미가 있다)
+ * - DB에는 원문 대신 SHA-256 해시(32byte)만 저장하고, 해시로 조회한다.
+ *   토큰 자체가 고엔트로피 난수이므로 솔트/느린 해시가 필요 없다.
+ */
+public final class RefreshTokens {
+
+    public static final int HASH_LENGTH = 32;
+
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private RefreshTokens() {
+    }
+
+    /**
+     * @return 새 Opaque Refresh Token (43자)
+     */
+    public static String generate() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * @param token Refresh Token 원문
+     * @return DB 저장/조회용 SHA-256 해시
+     */
+    public static byte[] hash(String token) {
+        return SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,17 @@
+package com.epik.domain.auth.token;
+
+import com.epik.domain.auth.entity.enums.UserRole;
+
+/**
+ * Refresh Token 교체 결과. Access Token 발급에 필요한 사용자 정보를 함께 담는다.
+ *
+ * @param userId       사용자 식별자
+ * @param role         사용자 권한 (교체 시점의 최신 값)
+ * @param refreshToken 새 Refresh Token 원문
+ */
+public record RotatedRefreshToken(
+        Long userId,
+        UserRole role,
+        String refreshToken
+) {
+}
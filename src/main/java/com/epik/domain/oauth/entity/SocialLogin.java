@@ -2,6 +2,7 @@ package com.epik.domain.oauth.entity;
 
 import com.epik.domain.auth.entity.User;
 import com.epik.domain.oauth.dto.enums.SocialProvider;
+import com.epik.global.common.IdGenerators;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,7 +31,10 @@ import java.time.LocalDateTime;
 public class SocialLogin {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "social_login_id")
+    @TableGenerator(name = "social_login_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "social_logins", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "social_id", nullable = false)
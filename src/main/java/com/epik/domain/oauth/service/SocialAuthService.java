@@ -1,5 +1,7 @@
 package com.epik.domain.oauth.service;
 
+import com.epik.domain.auth.availability.UserIdentifierFilter;
+import com.epik.domain.auth.consent.ConsentCatalog;
 import com.epik.domain.auth.dto.response.TokenResponse;
 import com.epik.domain.auth.entity.ConsentItem;
 import com.epik.domain.auth.entity.User;
@@ -23,6 +25,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -36,6 +40,8 @@ public class SocialAuthService {
     private final UserRepository userRepository;
     private final ConsentItemRepository consentItemRepository;
     private final UserConsentRepository userConsentRepository;
+    private final ConsentCatalog consentCatalog;
+    private final UserIdentifierFilter userIdentifierFilter;
 
     @Transactional(readOnly = true)
     public SocialCheckResponse handleSocialLogin(String providerName, String token) {
@@ -96,6 +102,7 @@ public class SocialAuthService {
         // 일단 User table 저장
         User socialUser = User.createSocialUser(emailToSave, request.getNickname());
         User savedUser = userRepository.save(socialUser);
+        userIdentifierFilter.add(savedUser.getEmail(), savedUser.getNickname());
 
         // UserConsents table 저장
         saveAllUserConsent(savedUser, request);
@@ -128,23 +135,26 @@ public class SocialAuthService {
     }
 
     private void saveAllUserConsent(User user, SocialSignupRequest request) {
+        List<UserConsent> userConsents = new ArrayList<>(ConsentItemCode.values().length);
+
         // 필수 약관 3개 → 동의 이력 3개
-        saveUserConsent(user, ConsentItemCode.TERMS, request.getTermsOfServiceAgreed());
-        saveUserConsent(user, ConsentItemCode.PRIVACY, request.getPrivacyPolicyAgreed());
-        saveUserConsent(user, ConsentItemCode.LOCATION, request.getLocationServiceAgreed());
+        userConsents.add(createUserConsent(user, ConsentItemCode.TERMS, request.getTermsOfServiceAgreed()));
+        userConsents.add(createUserConsent(user, ConsentItemCode.PRIVACY, request.getPrivacyPolicyAgreed()));
+        userConsents.add(createUserConsent(user, ConsentItemCode.LOCATION, request.getLocationServiceAgreed()));
 
         // 선택 약관 (동의 시)
         if (Boolean.TRUE.equals(request.getMarketingConsent())) {
-            saveUserConsent(user, ConsentItemCode.MARKETING, true);
+            userConsents.add(createUserConsent(user, ConsentItemCode.MARKETING, true));
         }
-    }
 
-    private void saveUserConsent(User user, ConsentItemCode code, Boolean isAgreed) {
-        ConsentItem consentItem = consentItemRepository.findByCodeAndIsActiveTrue(code)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CONSENT_ITEM_NOT_FOUND));
+        // 동의 이력을 한 번에 저장
+        userConsentRepository.saveAll(userConsents);
+    }
 
-        UserConsent userConsent = UserConsent.create(user, consentItem, isAgreed);
+    private UserConsent createUserConsent(User user, ConsentItemCode code, Boolean isAgreed) {
+        // 약관 항목은 카탈로그의 id로 프록시만 참조 (SELECT 없음)
+        ConsentItem consentItem = consentItemRepository.getReferenceById(consentCatalog.get(code).id());
 
-        userConsentRepository.save(userConsent);
+        return UserConsent.create(user, consentItem, isAgreed);
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.epik.global.auth.resolver;
 import com.epik.global.auth.annotation.AuthUser;
 import com.epik.global.exception.ErrorCode;
 import com.epik.global.exception.custom.BusinessException;
+import com.epik.global.security.jwt.AuthenticatedPrincipal;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.MethodParameter;
 import org.springframework.security.core.Authentication;
@@ -21,8 +22,9 @@ public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
     public boolean supportsParameter(MethodParameter parameter) {
         log.info(">>> AuthUserArgumentResolver.supportsParameter(MethodParameter) 호출");
         // 파라미터에 @AuthUser 어노테이션이 붙어 있으면 이 리졸버를 사용
+        Class<?> parameterType = parameter.getParameterType();
         return parameter.hasParameterAnnotation(AuthUser.class)
-                && parameter.getParameterType().equals(Long.class);
+                && (parameterType.equals(Long.class) || parameterType.equals(AuthenticatedPrincipal.class));
     }
 
     @Override
@@ -46,10 +48,14 @@ public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
             return null;
         }
 
-        // 2. 인증된 사용자인 경우 (Long 타입 형변환)
-        Long userId = (Long) authentication.getPrincipal();
-        log.info(">>> 추출된 유저 ID : {}", userId);
-        return userId;
+        // 2. 인증된 사용자인 경우 (필터에서 검증한 principal을 그대로 사용)
+        AuthenticatedPrincipal principal = (AuthenticatedPrincipal) authentication.getPrincipal();
+        log.info(">>> 추출된 유저 ID : {}", principal.userId());
+
+        if (parameter.getParameterType().equals(AuthenticatedPrincipal.class)) {
+            return principal;
+        }
+        return principal.userId();
     }
 
     // 가독성을 위한 헬퍼 메서드
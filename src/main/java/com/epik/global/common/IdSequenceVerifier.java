@@ -0,0 +1,122 @@
+package com.epik.global.common;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시작 시 id_sequences가 각 테이블의 기존 id보다 앞서 있는지 확인한다.
+ *
+ * 마이그레이션(db/migration)은 배포 전에 수동으로 실행하므로, 빠뜨리면 Hibernate가 행이 없는 시퀀스를
+ * 초기값부터 시작해서 기존 id와 충돌한다. 웹 서버가 뜨기 전에 확인해서 요청을 받기 전에 시작을 실패시킨다.
+ *
+ * pooled 최적화기는 읽은 next_val을 블록의 끝으로 보고 (next_val - allocationSize + 1)부터 사용하므로
+ * next_val >= MAX(id) + allocationSize 여야 한다. (테이블이 비어 있으면 행이 없어도 된다)
+ */
+@Slf4j
+@Component
+public class IdSequenceVerifier implements SmartInitializingSingleton {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public IdSequenceVerifier(EntityManagerFactory entityManagerFactory,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${id-sequences.verify-on-startup:true}") boolean enabled) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> problems = new ArrayList<>();
+        int verified = 0;
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            Class<?> type = entity.getJavaType();
+            Field idField = findIdField(type);
+            TableGenerator generator = idField == null ? null : idField.getAnnotation(TableGenerator.class);
+            if (generator == null || !IdGenerators.TABLE.equals(generator.table())) {
+                continue;
+            }
+
+            String problem = verify(tableName(type), columnName(idField), generator);
+            if (problem != null) {
+                problems.add(problem);
+            }
+            verified++;
+        }
+
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("id_sequences가 기존 id보다 뒤처져 있습니다. "
+                    + "db/migration의 id_sequences 초기화를 먼저 실행하세요: " + problems);
+        }
+        log.info("[IdSequences] 시퀀스 {}개 확인 완료", verified);
+    }
+
+    // ========== Private (내부용) ==========
+
+    /**
+     * @return 문제가 없으면 null
+     */
+    private String verify(String table, String idColumn, TableGenerator generator) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        if (maxId == null) {
+            return null;
+        }
+
+        List<Long> nextVal = jdbcTemplate.queryForList(
+                "SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE
+                        + " WHERE " + IdGenerators.PK_COLUMN + " = ?",
+                Long.class, generator.pkColumnValue());
+        if (nextVal.isEmpty()) {
+            return generator.pkColumnValue() + ": 행 없음 (MAX(id)=" + maxId + ")";
+        }
+
+        long required = maxId + generator.allocationSize();
+        if (nextVal.get(0) < required) {
+            return generator.pkColumnValue() + ": next_val=" + nextVal.get(0) + " < MAX(id) + "
+                    + generator.allocationSize() + "=" + required;
+        }
+        return null;
+    }
+
+    private static Field findIdField(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Id.class)) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String tableName(Class<?> type) {
+        Table table = type.getAnnotation(Table.class);
+        return table != null && !table.name().isEmpty() ? table.name() : type.getSimpleName();
+    }
+
+    private static String columnName(Field idField) {
+        Column column = idField.getAnnotation(Column.class);
+        return column != null && !column.name().isEmpty() ? column.name() : idField.getName();
+    }
+}
@@ -0,0 +1,44 @@
+package com.epik.global.config;
+
+import com.epik.global.mail.MailTransportPoolProperties;
+import com.epik.global.mail.PooledJavaMailSender;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+@ConditionalOnProperty(name = "mail.transport-pool.enabled", havingValue = "true", matchIfMissing = true)
+public class MailConfig {
+
+    /**
+     * spring.mail.* 설정으로 연결 풀을 사용하는 JavaMailSender를 만든다.
+     * 이 빈이 있으면 Spring Boot 기본 JavaMailSender는 만들어지지 않는다.
+     */
+    @Bean
+    public PooledJavaMailSender mailSender(MailProperties mailProperties,
+                                           MailTransportPoolProperties poolProperties,
+                                           MeterRegistry meterRegistry) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(poolProperties, meterRegistry);
+        sender.setHost(mailProperties.getHost());
+        if (mailProperties.getPort() != null) {
+            sender.setPort(mailProperties.getPort());
+        }
+        sender.setUsername(mailProperties.getUsername());
+        sender.setPassword(mailProperties.getPassword());
+        sender.setProtocol(mailProperties.getProtocol());
+        if (mailProperties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+        }
+
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(mailProperties.getProperties());
+        sender.setJavaMailProperties(javaMailProperties);
+        return sender;
+    }
+}
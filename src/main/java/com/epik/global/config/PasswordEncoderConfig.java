@@ -0,0 +1,68 @@
+package com.epik.global.config;
+
+import com.epik.global.security.password.BcryptCostCalibrator;
+import com.epik.global.security.password.OffloadingPasswordEncoder;
+import com.epik.global.security.password.PasswordHashingProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+@Configuration
+public class PasswordEncoderConfig {
+
+    static final String BCRYPT = "bcrypt";
+    static final String ARGON2 = "argon2";
+
+    /**
+     * 해시 앞에 {bcrypt}/{argon2} 접두어를 붙이는 DelegatingPasswordEncoder를 전용 스레드 풀에서 실행한다.
+     * - 새 해시는 auth.password-hashing.algorithm으로 만든다.
+     * - BCrypt cost는 고정값을 사용하고, calibrate를 켠 경우에만 시작 시 목표 시간에 맞춰 보정한다.
+     * - 알고리즘이나 cost가 바뀐 해시는 upgradeEncoding이 true를 반환하므로 로그인 시 다시 해싱한다.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        PasswordHashingProperties.Bcrypt bcrypt = properties.bcrypt();
+        int bcryptStrength = bcrypt.calibrate()
+                ? BcryptCostCalibrator.calibrate(bcrypt.minStrength(), bcrypt.maxStrength(), bcrypt.targetLatency())
+                : bcrypt.strength();
+
+        Gauge.builder("auth.password_hashing.bcrypt_strength", () -> bcryptStrength)
+                .description("새 BCrypt 해시에 사용하는 cost")
+                .register(meterRegistry);
+
+        int poolSize = properties.threads() > 0 ? properties.threads() : Runtime.getRuntime().availableProcessors();
+        return new OffloadingPasswordEncoder(hashingPasswordEncoder(properties.algorithm(), bcryptStrength),
+                poolSize, properties.queueCapacity(), properties.timeout(), properties.retryAfter(), meterRegistry);
+    }
+
+    /**
+     * 실제 해싱에 사용하는 PasswordEncoder (벤치마크에서도 사용)
+     *
+     * @param algorithm      새 해시에 사용할 알고리즘 id
+     * @param bcryptStrength BCrypt cost
+     */
+    static PasswordEncoder hashingPasswordEncoder(String algorithm, int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                BCRYPT, bcrypt,
+                ARGON2, Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8()
+        );
+
+        String idForEncode = algorithm.toLowerCase();
+        if (!encoders.containsKey(idForEncode)) {
+            throw new IllegalStateException("지원하지 않는 auth.password-hashing.algorithm: " + algorithm);
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(idForEncode, encoders);
+        // 접두어 없이 저장된 기존 BCrypt 해시
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegating;
+    }
+}
@@ -7,8 +7,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -18,11 +16,6 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -36,8 +29,12 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // 회원 전용
                         .requestMatchers("/api/v1/auth/logout").authenticated() // 로그아웃
+                        // 관리자 전용
+                        .requestMatchers("/api/v1/auth/availability/batch").hasAuthority("ROLE_ADMIN") // 일괄 중복 확인 (가져오기 도구)
                         // 비회원
                         .requestMatchers("/api/v1/auth/**").permitAll() // 인증 및 회원가입
+                        // Access Token 검증용 공개키 (JWKS)
+                        .requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll()
                         // 공개 조회
                         .requestMatchers(HttpMethod.GET, "/api/v1/popups/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/notices/**").permitAll()
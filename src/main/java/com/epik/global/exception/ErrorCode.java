@@ -10,6 +10,7 @@ public enum ErrorCode {
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "C-001", "입력값이 올바르지 않습니다."),
     PROVIDER_NOT_FOUND(HttpStatus.NOT_FOUND, "C-002", "존재하지 않는 소셜 로그인 제공자입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C-500", "서버 내부 오류가 발생했습니다."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "C-503", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // Auth - Login & Register (A-XXX)
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "A-001", "해당 리소스에 대한 접근 권한이 없습니다."),
@@ -23,6 +24,8 @@ public enum ErrorCode {
     MEMBER_NOT_LOGGED_IN(HttpStatus.UNAUTHORIZED, "A-009","로그인이 필요합니다."),
     NEED_REGISTRATION(HttpStatus.ACCEPTED, "A-010", "추가 정보가 필요합니다."),
     EMAIL_REQUIRED(HttpStatus.BAD_REQUEST, "A-011", "이메일을 입력해주세요."),
+    NICKNAME_RESERVED(HttpStatus.CONFLICT, "A-012", "다른 사용자가 가입 중인 닉네임입니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "A-013", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // OIDC - ID Token (O-XXX)
     MALFORMED_ID_TOKEN(HttpStatus.BAD_REQUEST, "O-001", "ID 토큰 형식이 올바르지 않습니다."),
@@ -51,6 +54,7 @@ public enum ErrorCode {
     INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "T-004", "인증이 만료되었습니다. 다시 로그인해 주세요."),
     INVALID_REGISTER_TOKEN(HttpStatus.UNAUTHORIZED, "T-005", "회원가입 정보가 유효하지 않습니다. 처음부터 다시 진행해 주세요."),
     TOKEN_ALREADY_USED(HttpStatus.BAD_REQUEST, "T-006", "이미 사용된 토큰입니다."),
+    REFRESH_TOKEN_ALREADY_ROTATED(HttpStatus.CONFLICT, "T-007", "토큰이 이미 재발급되었습니다. 잠시 후 다시 시도해 주세요."),
 
     // Password (P-XXX)
     PASSWORD_RESET_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "P-001", "비밀번호 재설정 링크가 만료되었습니다."),
@@ -3,11 +3,15 @@ package com.epik.global.exception;
 import com.epik.global.common.dto.ApiResponse;
 import com.epik.global.common.dto.ErrorResponse;
 import com.epik.global.exception.custom.BusinessException;
+import com.epik.global.exception.custom.LoginThrottledException;
+import com.epik.global.exception.custom.RetryLaterException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
@@ -96,6 +100,36 @@ public class GlobalExceptionHandler {
                 .body(response);
     }
 
+    // 과부하로 거절한 요청 503 + Retry-After
+    @ExceptionHandler(RetryLaterException.class)
+    public ResponseEntity<ApiResponse<ErrorResponse>> handleRetryLaterException(RetryLaterException e, HttpServletRequest request) {
+        ErrorCode errorCode = e.getErrorCode();
+
+        log.warn("Retry Later: code={}, retryAfter={}, path={}",
+                errorCode.getCode(),
+                e.getRetryAfter(),
+                request.getRequestURI()
+        );
+
+        ApiResponse<ErrorResponse> response = ApiResponse.error(errorCode);
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(response);
+    }
+
+    // 로그인 시도 제한 429 (공격 트래픽이므로 로그 없이 미리 만든 본문으로 응답)
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<byte[]> handleLoginThrottledException(LoginThrottledException e) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(e.getBody());
+    }
+
     // 예상치 못한 예외 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<ErrorResponse>> handleException(Exception e, HttpServletRequest request) {
@@ -0,0 +1,21 @@
+package com.epik.global.exception.custom;
+
+import lombok.Getter;
+
+/**
+ * 로그인 시도 제한에 걸린 경우 (429).
+ *
+ * 공격 트래픽마다 생성되므로 스택 트레이스를 만들지 않고, 응답 본문은 미리 직렬화해둔 것을 사용한다.
+ */
+@Getter
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+    private final byte[] body;
+
+    public LoginThrottledException(long retryAfterSeconds, byte[] body) {
+        super(null, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.body = body;
+    }
+}
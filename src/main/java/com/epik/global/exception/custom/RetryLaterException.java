@@ -0,0 +1,20 @@
+package com.epik.global.exception.custom;
+
+import com.epik.global.exception.ErrorCode;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 서버가 과부하 상태라 요청을 바로 거절하는 경우 (503 + Retry-After)
+ */
+@Getter
+public class RetryLaterException extends BusinessException {
+
+    private final Duration retryAfter;
+
+    public RetryLaterException(Duration retryAfter) {
+        super(ErrorCode.SERVER_BUSY);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,84 @@
+package com.epik.global.filter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 응답 시간 기반 AIMD 동시 실행 수 제한.
+ *
+ * - 요청이 latencyThreshold 안에 끝나고 한도의 절반 이상을 쓰고 있었으면 한도를 1/limit만큼 올린다.
+ *   (한도만큼의 요청이 끝날 때마다 약 1씩 증가)
+ * - latencyThreshold를 넘긴 요청이 있으면 한도를 backoffRatio배로 줄인다.
+ *   직전 감소 이전에 시작된 요청은 그 감소에 이미 반영된 것으로 보고 다시 줄이지 않는다. (한 번의 지연에 한 번만 감소)
+ * - 진입은 inFlight CAS만 사용하고, 한도 갱신만 짧게 동기화한다.
+ */
+public final class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private long lastDecreaseNanos;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("한도 설정이 올바르지 않습니다. (1 <= min <= initial <= max)");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio는 0과 1 사이여야 합니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+        this.lastDecreaseNanos = System.nanoTime() - latencyThresholdNanos;
+    }
+
+    /**
+     * @return 한도 안이면 true (반드시 release를 호출해야 한다), 초과면 false
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param startedAtNanos tryAcquire 직후의 System.nanoTime()
+     */
+    public void release(long startedAtNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        update(startedAtNanos, System.nanoTime(), inFlightAtCompletion);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long startedAtNanos, long finishedAtNanos, int inFlightAtCompletion) {
+        double current = limit;
+        if (finishedAtNanos - startedAtNanos > latencyThresholdNanos) {
+            if (startedAtNanos - lastDecreaseNanos > 0) {
+                limit = Math.max(minLimit, current * backoffRatio);
+                lastDecreaseNanos = finishedAtNanos;
+            }
+        } else if (inFlightAtCompletion * 2 >= current) {
+            // 한도를 충분히 쓰고 있을 때만 올린다 (유휴 상태에서 한도가 무한히 커지지 않도록)
+            limit = Math.min(maxLimit, current + 1.0 / current);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.epik.global.filter;
+
+import com.epik.global.common.dto.ApiResponse;
+import com.epik.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * CPU를 많이 쓰는 엔드포인트 그룹(로그인/회원가입/비밀번호 재설정 등)의 동시 실행 수를 AimdLimiter로 제한한다.
+ *
+ * 한도를 넘는 요청은 컨트롤러에 들어가기 전에 503 + Retry-After로 바로 거절해서,
+ * 해싱 요청이 몰려도 다른 엔드포인트의 스레드와 응답 시간을 지킨다.
+ * 그룹별 현재 한도/실행 중 요청 수/거절 수를 메트릭으로 노출한다.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Map<String, GroupLimiter> limitersByPath = new HashMap<>();
+    private final String retryAfterSeconds;
+    private final byte[] rejectionBody;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.retryAfterSeconds = String.valueOf(Math.max(1, properties.retryAfter().toSeconds()));
+
+        try {
+            this.rejectionBody = objectMapper.writeValueAsBytes(ApiResponse.error(ErrorCode.SERVER_BUSY));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("503 응답 본문을 만들 수 없습니다.", e);
+        }
+
+        properties.groups().forEach((name, group) -> {
+            AimdLimiter limiter = new AimdLimiter(group.initialLimit(), group.minLimit(), group.maxLimit(),
+                    group.latencyThreshold(), group.backoffRatio());
+            Counter rejected = Counter.builder("http.concurrency_limit.rejected")
+                    .description("동시 실행 한도 초과로 거절된 요청 수")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            Gauge.builder("http.concurrency_limit.limit", limiter, AimdLimiter::getLimit)
+                    .description("현재 동시 실행 한도")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            Gauge.builder("http.concurrency_limit.in_flight", limiter, AimdLimiter::getInFlight)
+                    .description("실행 중인 요청 수")
+                    .tag("group", name)
+                    .register(meterRegistry);
+
+            GroupLimiter groupLimiter = new GroupLimiter(limiter, rejected);
+            for (String path : group.paths()) {
+                limitersByPath.put(path, groupLimiter);
+            }
+            log.info("동시 실행 제한 그룹 등록 - {}: {}, 한도 {} ({}~{})", name, group.paths(),
+                    group.initialLimit(), group.minLimit(), group.maxLimit());
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !limitersByPath.containsKey(pathOf(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        GroupLimiter groupLimiter = limitersByPath.get(pathOf(request));
+
+        if (!groupLimiter.limiter().tryAcquire()) {
+            groupLimiter.rejected().increment();
+            reject(response);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            groupLimiter.limiter().release(startedAt);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(rejectionBody.length);
+        response.getOutputStream().write(rejectionBody);
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private record GroupLimiter(AimdLimiter limiter, Counter rejected) {
+    }
+}
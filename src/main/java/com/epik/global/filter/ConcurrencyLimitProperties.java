@@ -0,0 +1,47 @@
+package com.epik.global.filter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔드포인트 그룹별 동시 실행 수 제한 설정 (web.concurrency-limit.*)
+ *
+ * @param enabled    사용 여부
+ * @param retryAfter 거절 시 Retry-After
+ * @param groups     그룹 이름 -> 설정
+ */
+@ConfigurationProperties(prefix = "web.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1s") Duration retryAfter,
+        Map<String, Group> groups
+) {
+
+    public ConcurrencyLimitProperties {
+        if (groups == null) {
+            groups = Map.of();
+        }
+    }
+
+    /**
+     * @param paths            그룹에 속하는 요청 경로 (정확히 일치)
+     * @param initialLimit     시작 한도
+     * @param minLimit         최소 한도
+     * @param maxLimit         최대 한도
+     * @param latencyThreshold 이 시간을 넘긴 요청이 있으면 한도를 줄인다
+     * @param backoffRatio     한도를 줄일 때 곱하는 비율
+     */
+    public record Group(
+            List<String> paths,
+            @DefaultValue("16") int initialLimit,
+            @DefaultValue("4") int minLimit,
+            @DefaultValue("128") int maxLimit,
+            @DefaultValue("1s") Duration latencyThreshold,
+            @DefaultValue("0.9") double backoffRatio
+    ) {
+    }
+}
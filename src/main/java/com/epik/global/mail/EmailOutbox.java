@@ -0,0 +1,90 @@
+package com.epik.global.mail;
+
+import com.epik.global.common.IdGenerators;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송할 메일 (transactional outbox).
+ *
+ * 메일을 보내게 만든 데이터(예: PasswordResetToken)와 같은 트랜잭션에서 저장하고,
+ * EmailOutboxRelay가 커밋된 행을 가져가 발송한다.
+ * - PENDING 행은 next_attempt_at이 지나면 발송 대상이 된다.
+ * - 가져간 노드는 next_attempt_at을 lease만큼 미뤄두므로, 발송 중 노드가 죽으면 lease 만료 후 다시 발송된다. (at-least-once)
+ */
+@Getter
+@Entity
+@Table(
+        name = "email_outbox",
+        indexes = {
+                @Index(name = "idx_email_outbox_status_next_attempt_at", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_email_outbox_status_sent_at", columnList = "status, sent_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "email_outbox_id")
+    @TableGenerator(name = "email_outbox_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "email_outbox", allocationSize = IdGenerators.ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(name = "html_content", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String htmlContent;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public static EmailOutbox create(MailMessage message) {
+        LocalDateTime now = LocalDateTime.now();
+
+        EmailOutbox outbox = new EmailOutbox();
+        outbox.recipient = message.to();
+        outbox.subject = message.subject();
+        outbox.htmlContent = message.htmlContent();
+        outbox.status = EmailOutboxStatus.PENDING;
+        outbox.attempts = 0;
+        outbox.nextAttemptAt = now;
+        outbox.createdAt = now;
+        return outbox;
+    }
+
+    /**
+     * 발송을 위해 가져간다. leaseUntil까지 다른 노드가 가져가지 않는다.
+     */
+    public void lease(LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public MailMessage toMailMessage() {
+        return new MailMessage(recipient, subject, htmlContent);
+    }
+}
@@ -0,0 +1,33 @@
+package com.epik.global.mail;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 메일 outbox 발송 설정 (mail.outbox.*)
+ *
+ * @param threads         노드별 발송 스레드 수 (스레드마다 독립적으로 폴링한다)
+ * @param batchSize       한 번에 가져가서 한 SMTP 연결로 보내는 행 수
+ * @param pollInterval    대기 중인 행이 없을 때 다음 폴링까지의 간격
+ * @param lease           가져간 행을 다른 노드가 가져가지 못하는 시간 (발송 중 노드가 죽으면 이후 재발송)
+ * @param maxAttempts     최대 발송 시도 횟수 (첫 시도 포함)
+ * @param initialBackoff  첫 재시도 대기 시간 (이후 두 배씩 증가, ±20% 지터)
+ * @param maxBackoff      재시도 대기 시간 상한
+ * @param retention       발송 완료 행 보관 기간
+ * @param drainTimeout    종료 시 발송 중인 배치를 기다리는 시간
+ */
+@ConfigurationProperties(prefix = "mail.outbox")
+public record EmailOutboxProperties(
+        @DefaultValue("2") int threads,
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("5m") Duration lease,
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("10s") Duration initialBackoff,
+        @DefaultValue("10m") Duration maxBackoff,
+        @DefaultValue("7d") Duration retention,
+        @DefaultValue("10s") Duration drainTimeout
+) {
+}
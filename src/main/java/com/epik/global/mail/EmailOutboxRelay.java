@@ -0,0 +1,293 @@
+package com.epik.global.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * email_outbox 발송기.
+ *
+ * 발송 스레드마다 pollInterval 간격으로 다음을 반복한다.
+ * 1. 짧은 트랜잭션에서 발송할 행을 SELECT ... FOR UPDATE SKIP LOCKED로 잠그고 lease만큼 미뤄둔 뒤 커밋한다.
+ *    (다른 노드/스레드는 잠긴 행을 건너뛰므로 같은 행을 동시에 가져가지 않는다)
+ * 2. 트랜잭션 밖에서 배치를 한 SMTP 연결로 발송한다. (SMTP 대기 중 DB 락과 커넥션을 잡지 않는다)
+ * 3. 결과를 기록한다. 실패한 행은 지수 백오프로 다시 PENDING, 시도를 다 쓰면 FAILED.
+ *
+ * 2와 3 사이에 노드가 죽으면 lease 만료 후 다른 노드가 다시 보낸다. (at-least-once, 드물게 중복 발송)
+ * 배치가 가득 차 있으면 쉬지 않고 다음 배치를 가져가므로 적체 시 처리량은 스레드 수 x 노드 수에 비례한다.
+ */
+@Slf4j
+@Component
+public class EmailOutboxRelay implements SmartLifecycle {
+
+    // 웹 서버(graceful shutdown 포함)보다 나중에 멈추도록 낮은 phase 사용
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final EmailOutboxProperties properties;
+    private final TransactionTemplate transaction;
+    private final String fromEmail;
+
+    private final ScheduledThreadPoolExecutor pollers;
+    private volatile boolean running;
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final Timer batchTimer;
+
+    public EmailOutboxRelay(EmailOutboxRepository emailOutboxRepository,
+                            JavaMailSender mailSender,
+                            EmailOutboxProperties properties,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${spring.mail.username}") String fromEmail) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailSender = mailSender;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.fromEmail = fromEmail;
+
+        AtomicInteger pollerNumber = new AtomicInteger();
+        this.pollers = new ScheduledThreadPoolExecutor(properties.threads(),
+                runnable -> new Thread(runnable, "mail-outbox-" + pollerNumber.incrementAndGet()));
+
+        this.sent = Counter.builder("mail.outbox.sent")
+                .description("발송 완료한 메일 수")
+                .register(meterRegistry);
+        this.retried = Counter.builder("mail.outbox.retried")
+                .description("발송 실패 후 재시도를 예약한 횟수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("mail.outbox.failed")
+                .description("발송을 포기하고 FAILED로 기록한 메일 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("mail.outbox.batch")
+                .description("배치 하나를 SMTP로 발송하는 시간")
+                .register(meterRegistry);
+    }
+
+    // ========== SmartLifecycle ==========
+
+    @Override
+    public void start() {
+        running = true;
+        long interval = properties.pollInterval().toMillis();
+        for (int i = 0; i < properties.threads(); i++) {
+            pollers.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.MILLISECONDS);
+        }
+        log.info("[MailOutbox] 발송기 시작 - threads: {}, batchSize: {}", properties.threads(), properties.batchSize());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        pollers.shutdown();
+        try {
+            // 발송 중인 배치가 끝나서 결과가 기록될 때까지 대기 (못 끝낸 행은 lease 만료 후 재발송)
+            if (!pollers.awaitTermination(properties.drainTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("[MailOutbox] 종료 대기 시간 초과 - 발송 중인 행은 lease 만료 후 다시 발송됩니다.");
+                pollers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pollers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("[MailOutbox] 발송기 종료 완료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료 행을 삭제한다.
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.cleanup-interval:600000}")
+    public void deleteSent() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.retention());
+        int total = 0;
+        int deleted;
+        do {
+            deleted = transaction.execute(status -> emailOutboxRepository.deleteSentBefore(cutoff, CLEANUP_BATCH_SIZE));
+            total += deleted;
+        } while (deleted == CLEANUP_BATCH_SIZE);
+
+        if (total > 0) {
+            log.debug("[MailOutbox] 발송 완료 행 {}건 삭제", total);
+        }
+    }
+
+    // ========== Private (내부용) ==========
+
+    private void poll() {
+        try {
+            List<EmailOutbox> batch;
+            do {
+                batch = claim();
+                if (!batch.isEmpty()) {
+                    deliver(batch);
+                }
+            } while (running && batch.size() == properties.batchSize());
+        } catch (RuntimeException e) {
+            // 예외가 나가면 scheduleWithFixedDelay가 이후 실행을 멈춘다
+            log.error("[MailOutbox] 폴링 실패 - 원인={}", e.getMessage(), e);
+        }
+    }
+
+    private List<EmailOutbox> claim() {
+        return transaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutbox> due = emailOutboxRepository.lockDue(now, properties.batchSize());
+
+            LocalDateTime leaseUntil = now.plus(properties.lease());
+            due.forEach(outbox -> outbox.lease(leaseUntil));
+            return due;
+        });
+    }
+
+    private void deliver(List<EmailOutbox> batch) {
+        Map<MimeMessage, EmailOutbox> byMessage = new IdentityHashMap<>();
+        Map<EmailOutbox, Exception> failures = new IdentityHashMap<>();
+
+        for (EmailOutbox outbox : batch) {
+            try {
+                byMessage.put(toMimeMessage(outbox.toMailMessage()), outbox);
+            } catch (MailPreparationException e) {
+                failures.put(outbox, e);
+            }
+        }
+
+        if (!byMessage.isEmpty()) {
+            long startedAt = System.nanoTime();
+            try {
+                mailSender.send(byMessage.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                // 실패한 메시지만 들어있다. (비어 있으면 모두 보낸 뒤 연결 종료만 실패한 경우)
+                e.getFailedMessages().forEach((message, cause) -> {
+                    EmailOutbox outbox = byMessage.get(message);
+                    if (outbox != null) {
+                        failures.put(outbox, cause);
+                    }
+                });
+            } catch (MailException e) {
+                // 연결/인증 실패: 배치 전체 재시도
+                byMessage.values().forEach(outbox -> failures.put(outbox, e));
+            } finally {
+                batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        complete(batch, failures);
+    }
+
+    private void complete(List<EmailOutbox> batch, Map<EmailOutbox, Exception> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> sentIds = new ArrayList<>(batch.size());
+
+        transaction.executeWithoutResult(status -> {
+            for (EmailOutbox outbox : batch) {
+                Exception cause = failures.get(outbox);
+                if (cause == null) {
+                    sentIds.add(outbox.getId());
+                    continue;
+                }
+
+                int attempt = outbox.getAttempts() + 1;
+                String error = truncate(cause.getMessage());
+                if (isPermanent(cause) || attempt >= properties.maxAttempts()) {
+                    emailOutboxRepository.markFailed(outbox.getId(), error);
+                    failed.increment();
+                    log.error("[MailOutbox] 발송 포기 - id={}, to={}, attempt={}, 원인={}",
+                            outbox.getId(), outbox.getRecipient(), attempt, cause.getMessage());
+                } else {
+                    Duration delay = backoff(attempt);
+                    emailOutboxRepository.markRetry(outbox.getId(), now.plus(delay), error);
+                    retried.increment();
+                    log.warn("[MailOutbox] 발송 실패, {}ms 후 재시도 - id={}, to={}, attempt={}, 원인={}",
+                            delay.toMillis(), outbox.getId(), outbox.getRecipient(), attempt, cause.getMessage());
+                }
+            }
+
+            if (!sentIds.isEmpty()) {
+                emailOutboxRepository.markSent(sentIds, now);
+            }
+        });
+
+        sent.increment(sentIds.size());
+    }
+
+    /**
+     * 재시도해도 소용없는 실패: 메시지를 만들 수 없거나 수신 주소가 잘못된 경우
+     */
+    private static boolean isPermanent(Exception cause) {
+        if (cause instanceof MailPreparationException) {
+            return true;
+        }
+        return cause instanceof SendFailedException sendFailed
+                && sendFailed.getInvalidAddresses() != null
+                && sendFailed.getInvalidAddresses().length > 0;
+    }
+
+    /**
+     * attempt번째 실패 후 대기 시간: initialBackoff * 2^(attempt-1), maxBackoff 이하, ±20% 지터
+     */
+    private Duration backoff(int attempt) {
+        long base = properties.initialBackoff().toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(base, properties.maxBackoff().toMillis());
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+
+    private MimeMessage toMimeMessage(MailMessage message) {
+        try {
+            MimeMessage mimeMessage = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+
+            helper.setFrom(fromEmail);
+            helper.setTo(message.to());
+            helper.setSubject(message.subject());
+            helper.setText(message.htmlContent(), true);
+            return mimeMessage;
+        } catch (MessagingException e) {
+            throw new MailPreparationException("메일 메시지를 만들 수 없습니다.", e);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
@@ -0,0 +1,66 @@
+package com.epik.global.mail;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // 발송할 행을 잠근다. 다른 노드가 잠근 행은 기다리지 않고 건너뛴다. (트랜잭션 안에서 호출)
+    @Query(value = """
+        SELECT * FROM email_outbox
+        WHERE status = 'PENDING'
+          AND next_attempt_at <= :now
+        ORDER BY next_attempt_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<EmailOutbox> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+        UPDATE EmailOutbox o
+        SET o.status = com.epik.global.mail.EmailOutboxStatus.SENT,
+            o.attempts = o.attempts + 1,
+            o.sentAt = :sentAt
+        WHERE o.id IN :ids
+    """)
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("""
+        UPDATE EmailOutbox o
+        SET o.attempts = o.attempts + 1,
+            o.nextAttemptAt = :nextAttemptAt,
+            o.lastError = :lastError
+        WHERE o.id = :id
+    """)
+    int markRetry(@Param("id") Long id,
+                  @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                  @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("""
+        UPDATE EmailOutbox o
+        SET o.status = com.epik.global.mail.EmailOutboxStatus.FAILED,
+            o.attempts = o.attempts + 1,
+            o.lastError = :lastError
+        WHERE o.id = :id
+    """)
+    int markFailed(@Param("id") Long id, @Param("lastError") String lastError);
+
+    // 보관 기간이 지난 발송 완료 행을 limit건씩 삭제
+    @Modifying
+    @Query(value = """
+        DELETE FROM email_outbox
+        WHERE status = 'SENT'
+          AND sent_at < :cutoff
+        LIMIT :limit
+    """, nativeQuery = true)
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
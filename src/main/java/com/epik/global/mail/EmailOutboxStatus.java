@@ -0,0 +1,7 @@
+package com.epik.global.mail;
+
+public enum EmailOutboxStatus {
+    PENDING,    // 발송 대기 (재시도 대기 포함)
+    SENT,       // 발송 완료
+    FAILED      // 재시도 소진 또는 재시도해도 소용없는 실패
+}
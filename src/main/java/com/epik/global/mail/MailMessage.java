@@ -0,0 +1,15 @@
+package com.epik.global.mail;
+
+/**
+ * 발송할 HTML 메일.
+ *
+ * @param to          수신자
+ * @param subject     제목
+ * @param htmlContent HTML 본문
+ */
+public record MailMessage(
+        String to,
+        String subject,
+        String htmlContent
+) {
+}
@@ -0,0 +1,27 @@
+package com.epik.global.mail;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * SMTP 연결 풀 설정 (mail.transport-pool.*)
+ *
+ * @param enabled                  false면 Spring Boot 기본 JavaMailSender (발송마다 새 연결)
+ * @param maxConnections           SMTP 서버(spring.mail.host)에 동시에 여는 최대 연결 수
+ * @param acquireTimeout           연결을 빌리기 위해 기다리는 최대 시간
+ * @param maxIdle                  이보다 오래 쉰 연결은 재사용하지 않고 닫는다 (서버가 먼저 끊기 전에)
+ * @param validateAfterIdle        이보다 오래 쉰 연결은 NOOP으로 살아있는지 확인한 뒤 사용한다
+ * @param maxMessagesPerConnection 한 연결로 보낼 최대 메일 수 (넘으면 새 연결, 서버의 연결당 제한 대비)
+ */
+@ConfigurationProperties(prefix = "mail.transport-pool")
+public record MailTransportPoolProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("4") int maxConnections,
+        @DefaultValue("10s") Duration acquireTimeout,
+        @DefaultValue("60s") Duration maxIdle,
+        @DefaultValue("10s") Duration validateAfterIdle,
+        @DefaultValue("100") int maxMessagesPerConnection
+) {
+}
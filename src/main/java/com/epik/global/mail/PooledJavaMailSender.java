@@ -0,0 +1,330 @@
+package com.epik.global.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인증까지 끝난 SMTP 연결을 재사용하는 JavaMailSender.
+ *
+ * JavaMailSenderImpl은 send()마다 연결 → STARTTLS → AUTH → 발송 → 종료를 반복해서
+ * 메일 한 통보다 연결 비용이 더 크다. 여기서는 연결을 풀에 보관해 재사용한다.
+ * - send(MimeMessage...)로 받은 메시지는 연결 하나로 이어서 보낸다.
+ * - 동시에 빌려줄 수 있는 연결은 maxConnections개까지이고, 나머지는 acquireTimeout까지 기다린다.
+ * - 오래 쉰 연결은 NOOP으로 확인하고, maxIdle이 지났거나 maxMessagesPerConnection을 채운 연결은 닫는다.
+ * - 발송 중 연결이 끊기면 새 연결로 한 번 다시 보낸다.
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+    private final MailTransportPoolProperties properties;
+
+    // 빌려준 연결 수 제한 (쉬는 연결은 permit을 갖지 않는다)
+    private final Semaphore permits;
+    // 최근에 반납한 연결부터 꺼내서 오래 쉰 연결은 자연스럽게 만료되도록 한다
+    private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private volatile boolean closed;
+
+    private final Counter connectionsOpened;
+    private final Counter connectionsClosed;
+    private final Counter reconnects;
+    private final Timer acquireTimer;
+    private final Timer sendSuccess;
+    private final Timer sendFailure;
+
+    public PooledJavaMailSender(MailTransportPoolProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.permits = new Semaphore(properties.maxConnections(), true);
+
+        this.connectionsOpened = Counter.builder("mail.smtp.connections.opened")
+                .description("새로 연 SMTP 연결 수")
+                .register(meterRegistry);
+        this.connectionsClosed = Counter.builder("mail.smtp.connections.closed")
+                .description("닫은 SMTP 연결 수")
+                .register(meterRegistry);
+        this.reconnects = Counter.builder("mail.smtp.reconnects")
+                .description("발송 중 연결이 끊겨 다시 연결한 횟수")
+                .register(meterRegistry);
+        this.acquireTimer = Timer.builder("mail.smtp.pool.acquire")
+                .description("연결을 빌리기까지 걸린 시간 (새 연결 생성 포함)")
+                .register(meterRegistry);
+        this.sendSuccess = Timer.builder("mail.smtp.send")
+                .description("메일 한 통 발송 시간")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.sendFailure = Timer.builder("mail.smtp.send")
+                .description("메일 한 통 발송 시간")
+                .tag("result", "failure")
+                .register(meterRegistry);
+
+        Gauge.builder("mail.smtp.pool.open", openConnections, AtomicInteger::get)
+                .description("열려 있는 SMTP 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("mail.smtp.pool.idle", idle, BlockingDeque::size)
+                .description("쉬고 있는 SMTP 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("mail.smtp.pool.active", permits, semaphore -> properties.maxConnections() - semaphore.availablePermits())
+                .description("발송에 사용 중인 SMTP 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("mail.smtp.pool.pending", permits, Semaphore::getQueueLength)
+                .description("연결을 기다리는 스레드 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        PooledTransport transport = acquire();
+
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                MimeMessage mimeMessage = mimeMessages[i];
+                Object original = originalMessages != null ? originalMessages[i] : mimeMessage;
+
+                try {
+                    prepare(mimeMessage);
+                } catch (MessagingException e) {
+                    failedMessages.put(original, e);
+                    continue;
+                }
+
+                if (transport == null) {
+                    // 재연결에 실패한 뒤 남은 메시지
+                    failedMessages.put(original, new MessagingException("SMTP 서버에 다시 연결하지 못했습니다."));
+                    continue;
+                }
+                if (transport.isExhausted()) {
+                    close(transport);
+                    transport = reopen(original, failedMessages);
+                    if (transport == null) {
+                        continue;
+                    }
+                }
+
+                try {
+                    send(transport, mimeMessage);
+                } catch (MessagingException e) {
+                    if (transport.transport().isConnected()) {
+                        // 수신자 거부 등 이 메시지만의 실패
+                        failedMessages.put(original, e);
+                        continue;
+                    }
+
+                    // 연결이 끊겼으면 새 연결로 한 번 다시 보낸다
+                    log.warn("[SMTP] 발송 중 연결 끊김, 재연결 - 원인={}", e.getMessage());
+                    close(transport);
+                    reconnects.increment();
+                    transport = reopen(original, failedMessages);
+                    if (transport == null) {
+                        continue;
+                    }
+                    try {
+                        send(transport, mimeMessage);
+                    } catch (MessagingException retryFailure) {
+                        failedMessages.put(original, retryFailure);
+                    }
+                }
+            }
+        } finally {
+            release(transport);
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    /**
+     * 쉬고 있는 연결을 모두 닫는다. (빌려준 연결은 반납할 때 닫는다)
+     */
+    @Override
+    public void destroy() {
+        closed = true;
+        PooledTransport transport;
+        while ((transport = idle.pollFirst()) != null) {
+            close(transport);
+        }
+    }
+
+    // ========== Private (내부용) ==========
+
+    /**
+     * 연결을 빌린다. 쉬는 연결이 없으면 새로 연다.
+     * 반환된 연결은 반드시 release()로 돌려줘야 한다.
+     */
+    private PooledTransport acquire() {
+        long startedAt = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(properties.acquireTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MailSendException("SMTP 연결 대기 시간 초과 (" + properties.acquireTimeout() + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("SMTP 연결 대기 중 인터럽트", e);
+        }
+
+        try {
+            PooledTransport transport;
+            while ((transport = idle.pollFirst()) != null) {
+                if (isReusable(transport)) {
+                    return transport;
+                }
+                close(transport);
+            }
+            return open();
+        } catch (MessagingException e) {
+            permits.release();
+            if (e instanceof AuthenticationFailedException) {
+                throw new MailAuthenticationException(e);
+            }
+            throw new MailSendException("SMTP 서버에 연결하지 못했습니다.", e);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        } finally {
+            acquireTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void release(@Nullable PooledTransport transport) {
+        try {
+            if (transport == null) {
+                return;
+            }
+            if (closed || transport.isExhausted() || openConnections.get() > properties.maxConnections()) {
+                close(transport);
+                return;
+            }
+            transport.markIdle();
+            idle.offerFirst(transport);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean isReusable(PooledTransport transport) {
+        long idleNanos = System.nanoTime() - transport.idleSinceNanos();
+        if (transport.isExhausted() || idleNanos > properties.maxIdle().toNanos()) {
+            return false;
+        }
+        // 잠깐 쉰 연결은 확인 없이 사용하고, 오래 쉰 연결만 NOOP으로 확인
+        return idleNanos <= properties.validateAfterIdle().toNanos() || transport.transport().isConnected();
+    }
+
+    private PooledTransport open() throws MessagingException {
+        Transport transport = connectTransport();
+        openConnections.incrementAndGet();
+        connectionsOpened.increment();
+        return new PooledTransport(transport);
+    }
+
+    /**
+     * 끊긴 연결 대신 새 연결을 연다. 실패하면 현재 메시지를 실패로 기록하고 null을 반환한다.
+     */
+    @Nullable
+    private PooledTransport reopen(Object original, Map<Object, Exception> failedMessages) {
+        try {
+            return open();
+        } catch (MessagingException e) {
+            log.error("[SMTP] 재연결 실패 - 원인={}", e.getMessage());
+            failedMessages.put(original, e);
+            return null;
+        }
+    }
+
+    private void close(PooledTransport transport) {
+        openConnections.decrementAndGet();
+        connectionsClosed.increment();
+        try {
+            transport.transport().close();
+        } catch (MessagingException e) {
+            log.debug("[SMTP] 연결 종료 실패 (무시) - 원인={}", e.getMessage());
+        }
+    }
+
+    private void send(PooledTransport transport, MimeMessage mimeMessage) throws MessagingException {
+        long startedAt = System.nanoTime();
+        try {
+            Address[] addresses = mimeMessage.getAllRecipients();
+            transport.transport().sendMessage(mimeMessage, addresses != null ? addresses : new Address[0]);
+            transport.countMessage();
+            sendSuccess.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        } catch (MessagingException e) {
+            sendFailure.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * JavaMailSenderImpl.doSend와 같은 헤더 처리 (발송 시각, 지정한 Message-ID 유지)
+     */
+    private static void prepare(MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+        }
+    }
+
+    /**
+     * 풀에 보관하는 연결. 한 번에 한 스레드만 사용한다.
+     */
+    private final class PooledTransport {
+
+        private final Transport transport;
+        private int messagesSent;
+        private long idleSinceNanos = System.nanoTime();
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        Transport transport() {
+            return transport;
+        }
+
+        long idleSinceNanos() {
+            return idleSinceNanos;
+        }
+
+        void markIdle() {
+            idleSinceNanos = System.nanoTime();
+        }
+
+        void countMessage() {
+            messagesSent++;
+        }
+
+        boolean isExhausted() {
+            return messagesSent >= properties.maxMessagesPerConnection();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.epik.global.security.filter;
 
-import com.epik.global.security.jwt.JwtProvider;
+import com.epik.global.security.jwt.AccessTokenCache;
+import com.epik.global.security.jwt.AuthenticatedPrincipal;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,41 +11,36 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtProvider jwtProvider;
+    private final AccessTokenCache accessTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = extractToken(request);
 
         if (token != null) {
-            // 토큰 검증
-            if (jwtProvider.validateToken(token)) {
-                Long userId = jwtProvider.getUserId(token);
-                String roleKey = jwtProvider.getRole(token);
-                List<SimpleGrantedAuthority> authorities =
-                        List.of(new SimpleGrantedAuthority(roleKey));
+            // 토큰 검증 + Claims 추출 (캐시에 없을 때만 서명 검증)
+            try {
+                AuthenticatedPrincipal principal = accessTokenCache.getOrVerify(token);
 
                 Authentication authentication =
                         new UsernamePasswordAuthenticationToken(
-                                userId, null, authorities);
+                                principal, null, principal.authorities());
 
                 SecurityContextHolder.getContext()
                         .setAuthentication(authentication);
 
-            } else {
+            } catch (JwtException | IllegalArgumentException e) {
                 // 토큰이 유효하지 않으면 SecurityContext 비움
                 // Spring Security가 401 반환
                 log.warn("유효하지 않은 JWT 토큰");
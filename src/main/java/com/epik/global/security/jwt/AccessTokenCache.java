@@ -0,0 +1,189 @@
+package com.epik.global.security.jwt;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증이 끝난 Access Token을 보관하는 캐시.
+ *
+ * 같은 Access Token이 만료(30분) 전까지 반복해서 들어오므로,
+ * 토큰의 SHA-256 다이제스트를 키로 검증 결과(AuthenticatedPrincipal)를 보관해 서명 검증을 생략한다.
+ * - 각 엔트리는 토큰 자체의 exp 시각에 만료된다.
+ * - 최대 크기를 넘으면 먼저 들어온 엔트리부터 제거한다 (모든 토큰의 수명이 같으므로 만료가 가장 임박한 순서와 같다).
+ *   삽입 순서 큐에는 엔트리별 스탬프를 함께 넣어서, 만료/무효화로 이미 제거됐거나 다시 들어온 키를 잘못 제거하지 않는다.
+ * - ConcurrentHashMap + ConcurrentLinkedQueue만 사용하므로 조회 경로에 락이 없다.
+ *
+ * 캐시는 서명 검증 결과만 보관할 뿐 폐기 수단이 아니다. 로그아웃/비밀번호 변경 후에도 Access Token은 만료까지 유효하며
+ * (캐시에서 지워도 다음 요청에서 다시 검증되어 들어온다), 폐기는 Refresh Token 단위로 한다.
+ */
+@Slf4j
+@Component
+public class AccessTokenCache {
+
+    private final JwtProvider jwtProvider;
+    private final boolean enabled;
+    private final int maximumSize;
+
+    private final Map<TokenDigest, CachedPrincipal> entries = new ConcurrentHashMap<>();
+    // 엔트리 삽입 순서 (FIFO 제거용), 크기는 queuedCount로 관리
+    private final Queue<QueuedKey> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    // 큐에 남아 있지만 엔트리는 이미 제거된 항목 수 (만료/무효화)
+    private final AtomicInteger staleCount = new AtomicInteger();
+    private final AtomicLong stamps = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    });
+
+    public AccessTokenCache(JwtProvider jwtProvider,
+                            MeterRegistry meterRegistry,
+                            @Value("${jwt.access-token-cache.enabled:true}") boolean enabled,
+                            @Value("${jwt.access-token-cache.maximum-size:100000}") int maximumSize) {
+        this.jwtProvider = jwtProvider;
+        this.enabled = enabled;
+        this.maximumSize = maximumSize;
+
+        FunctionCounter.builder("jwt.access_token.cache.hits", hits, LongAdder::sum)
+                .description("검증 캐시 적중 횟수")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.access_token.cache.misses", misses, LongAdder::sum)
+                .description("검증 캐시 미스 횟수 (서명 검증 수행)")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.access_token.cache.evictions", evictions, LongAdder::sum)
+                .description("크기 제한으로 제거된 엔트리 수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.access_token.cache.size", entries, Map::size)
+                .description("현재 캐시된 Access Token 수")
+                .register(meterRegistry);
+
+        log.info("AccessTokenCache 초기화 완료 - enabled: {}, maximumSize: {}", enabled, maximumSize);
+    }
+
+    /**
+     * 캐시에서 검증 결과를 찾고, 없으면 JwtProvider로 검증한 뒤 캐시에 저장한다.
+     *
+     * @param token Access Token
+     * @return 검증된 인증 주체
+     * @throws JwtException 토큰이 유효하지 않은 경우
+     */
+    public AuthenticatedPrincipal getOrVerify(String token) {
+        if (!enabled) {
+            return jwtProvider.parseAccessToken(token);
+        }
+
+        TokenDigest key = TokenDigest.of(token);
+        long now = System.currentTimeMillis();
+
+        CachedPrincipal cached = entries.get(key);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) {
+                hits.increment();
+                return cached.principal();
+            }
+            // 만료된 엔트리는 바로 제거하고 재검증 (jjwt가 만료 예외를 던진다)
+            removeStale(key, cached);
+        }
+
+        misses.increment();
+        AuthenticatedPrincipal principal = jwtProvider.parseAccessToken(token);
+
+        if (principal.expiresAt() != null) {
+            put(key, principal, principal.expiresAt().toEpochMilli());
+        }
+        return principal;
+    }
+
+    /**
+     * 특정 Access Token의 캐시 엔트리를 제거한다.
+     *
+     * @param token 제거할 Access Token
+     */
+    public void invalidate(String token) {
+        TokenDigest key = TokenDigest.of(token);
+        CachedPrincipal cached = entries.get(key);
+        if (cached != null) {
+            removeStale(key, cached);
+        }
+    }
+
+    private void put(TokenDigest key, AuthenticatedPrincipal principal, long expiresAtMillis) {
+        long stamp = stamps.incrementAndGet();
+        if (entries.putIfAbsent(key, new CachedPrincipal(principal, expiresAtMillis, stamp)) != null) {
+            // 동시 미스로 이미 들어간 키 (같은 토큰의 검증 결과이므로 기존 엔트리 유지)
+            return;
+        }
+
+        insertionOrder.offer(new QueuedKey(key, stamp));
+        queuedCount.incrementAndGet();
+
+        // 살아있는 엔트리가 최대 크기를 넘거나, 제거된 항목이 쌓여 큐가 두 배를 넘으면 오래된 것부터 꺼낸다
+        while (queuedCount.get() - staleCount.get() > maximumSize || queuedCount.get() > 2 * maximumSize) {
+            QueuedKey eldest = insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            queuedCount.decrementAndGet();
+
+            CachedPrincipal current = entries.get(eldest.key());
+            if (current != null && current.stamp() == eldest.stamp() && entries.remove(eldest.key(), current)) {
+                evictions.increment();
+            } else {
+                // 만료/무효화로 이미 제거된 항목 (같은 키가 다시 들어왔어도 스탬프가 다르다)
+                staleCount.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 큐를 거치지 않고 엔트리를 제거한다. 큐에 남은 항목은 나중에 꺼낼 때 버린다.
+     */
+    private void removeStale(TokenDigest key, CachedPrincipal cached) {
+        if (entries.remove(key, cached)) {
+            staleCount.incrementAndGet();
+        }
+    }
+
+    private record CachedPrincipal(AuthenticatedPrincipal principal, long expiresAtMillis, long stamp) {
+    }
+
+    private record QueuedKey(TokenDigest key, long stamp) {
+    }
+
+    /**
+     * 토큰 원문 대신 보관하는 SHA-256 다이제스트 (256bit = long 4개).
+     */
+    private record TokenDigest(long h0, long h1, long h2, long h3) {
+
+        static TokenDigest of(String token) {
+            byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new TokenDigest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+    }
+}
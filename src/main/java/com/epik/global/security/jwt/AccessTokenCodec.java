@@ -0,0 +1,432 @@
+package com.epik.global.security.jwt;
+
+import com.epik.domain.auth.entity.enums.UserRole;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * 우리 서버가 발급하는 Access Token 전용 HS256 코덱.
+ *
+ * Access Token의 헤더와 Payload 구조는 항상 고정이므로 jjwt의 범용 빌더/파서(Jackson Map) 대신
+ * 고정 레이아웃으로 직접 쓰고 읽는다.
+ * - 헤더: {"alg":"HS256"}
+ * - Payload: {"sub":"1","role":"ROLE_USER","iat":...,"exp":...,"jti":"..."}
+ *
+ * Mac과 작업 버퍼는 스레드별로 재사용하고, 서명은 상수 시간으로 비교한다.
+ * 헤더나 Payload 레이아웃이 다른 토큰은 decode()가 null을 반환하므로 호출 측에서 jjwt로 검증한다.
+ */
+public final class AccessTokenCodec {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int BUFFER_SIZE = 1024;
+
+    private static final byte[] SUB_START = ascii("{\"sub\":\"");
+    private static final byte[] ROLE_START = ascii("\",\"role\":\"");
+    private static final byte[] IAT_START = ascii("\",\"iat\":");
+    private static final byte[] EXP_START = ascii(",\"exp\":");
+    private static final byte[] JTI_START = ascii(",\"jti\":\"");
+    private static final byte[] END = ascii("\"}");
+
+    private static final UserRole[] ROLES = UserRole.values();
+    private static final byte[][] ROLE_NAMES = new byte[ROLES.length][];
+
+    private static final byte[] BASE64URL_ALPHABET =
+            ascii("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_");
+    private static final int[] BASE64URL_DECODE = new int[128];
+
+    static {
+        for (UserRole role : ROLES) {
+            ROLE_NAMES[role.ordinal()] = ascii(role.name());
+        }
+        Arrays.fill(BASE64URL_DECODE, -1);
+        for (int i = 0; i < BASE64URL_ALPHABET.length; i++) {
+            BASE64URL_DECODE[BASE64URL_ALPHABET[i]] = i;
+        }
+    }
+
+    // base64url("{"alg":"HS256"}") + "." (알파벳 테이블 초기화 이후에 계산)
+    private static final String HEADER_PREFIX =
+            encodeToString(ascii("{\"alg\":\"HS256\"}")) + ".";
+
+    private final ThreadLocal<Mac> macs;
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+    public AccessTokenCodec(byte[] secretKey) {
+        SecretKeySpec keySpec = new SecretKeySpec(secretKey, HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 초기화에 실패했습니다.", e);
+            }
+        });
+    }
+
+    /**
+     * Access Token을 생성한다.
+     *
+     * @param userId    사용자 식별자 (sub)
+     * @param role      사용자 권한 (role)
+     * @param issuedAt  발급 시각 (iat, 초 단위로 기록)
+     * @param expiresAt 만료 시각 (exp, 초 단위로 기록)
+     * @param jti       토큰 식별자 (JSON 이스케이프가 필요 없는 ASCII 문자열)
+     * @return JWT 형식의 Access Token
+     */
+    public String encode(long userId, UserRole role, Instant issuedAt, Instant expiresAt, String jti) {
+        Buffers buf = buffers.get();
+
+        // 1. 고정 레이아웃 Payload 작성
+        byte[] json = buf.json;
+        int n = 0;
+        n = put(json, n, SUB_START);
+        n = putLong(json, n, userId);
+        n = put(json, n, ROLE_START);
+        n = put(json, n, ROLE_NAMES[role.ordinal()]);
+        n = put(json, n, IAT_START);
+        n = putLong(json, n, issuedAt.getEpochSecond());
+        n = put(json, n, EXP_START);
+        n = putLong(json, n, expiresAt.getEpochSecond());
+        n = put(json, n, JTI_START);
+        n = putAscii(json, n, jti);
+        n = put(json, n, END);
+
+        // 2. header.payload 인코딩
+        byte[] out = buf.token;
+        int len = putAscii(out, 0, HEADER_PREFIX);
+        len = encode(json, n, out, len);
+
+        // 3. 서명 후 .signature 추가
+        Mac mac = macs.get();
+        mac.update(out, 0, len);
+        try {
+            mac.doFinal(buf.expectedSignature, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Access Token 서명에 실패했습니다.", e);
+        }
+        out[len++] = '.';
+        len = encode(buf.expectedSignature, SIGNATURE_LENGTH, out, len);
+
+        return new String(out, 0, len, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 고정 레이아웃 Access Token을 검증하고 인증 주체를 추출한다.
+     *
+     * @param token Access Token
+     * @return 검증된 인증 주체, 고정 레이아웃이 아니면 null
+     * @throws JwtException 서명이 일치하지 않거나 만료된 경우
+     */
+    public AuthenticatedPrincipal decode(String token) {
+        int prefixLength = HEADER_PREFIX.length();
+        if (token == null || token.length() > BUFFER_SIZE || !token.startsWith(HEADER_PREFIX)) {
+            return null;
+        }
+
+        int signatureDot = token.indexOf('.', prefixLength);
+        if (signatureDot < 0 || token.indexOf('.', signatureDot + 1) >= 0) {
+            return null;
+        }
+
+        Buffers buf = buffers.get();
+
+        // 1. 서명 검증 (header.payload 원문 기준)
+        byte[] signingInput = buf.token;
+        for (int i = 0; i < signatureDot; i++) {
+            char c = token.charAt(i);
+            if (c > 0x7F) {
+                return null;
+            }
+            signingInput[i] = (byte) c;
+        }
+
+        Mac mac = macs.get();
+        mac.update(signingInput, 0, signatureDot);
+        try {
+            mac.doFinal(buf.expectedSignature, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Access Token 서명 검증에 실패했습니다.", e);
+        }
+
+        int signatureLength = decode(token, signatureDot + 1, token.length(), buf.actualSignature);
+        if (signatureLength != SIGNATURE_LENGTH
+                || !constantTimeEquals(buf.expectedSignature, buf.actualSignature)) {
+            throw new SignatureException("JWT signature does not match locally computed signature.");
+        }
+
+        // 2. Payload 디코딩 및 고정 레이아웃 파싱
+        int payloadLength = decode(token, prefixLength, signatureDot, buf.json);
+        if (payloadLength < 0) {
+            return null;
+        }
+        AuthenticatedPrincipal principal = new PayloadReader(buf.json, payloadLength).read();
+        if (principal == null) {
+            return null;
+        }
+
+        // 3. 만료 검증 (jjwt와 동일하게 현재 시각이 exp를 지나면 만료)
+        if (System.currentTimeMillis() > principal.expiresAt().toEpochMilli()) {
+            throw new ExpiredJwtException(null, null, "JWT expired at " + principal.expiresAt() + ".");
+        }
+        return principal;
+    }
+
+    // ========== Private (내부용) ==========
+
+    private static boolean constantTimeEquals(byte[] expected, byte[] actual) {
+        int diff = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            diff |= expected[i] ^ actual[i];
+        }
+        return diff == 0;
+    }
+
+    /**
+     * src[0, length)를 패딩 없는 base64url로 인코딩해 dst[offset..]에 기록한다.
+     *
+     * @return 기록 후 dst의 다음 위치
+     */
+    private static int encode(byte[] src, int length, byte[] dst, int offset) {
+        int i = 0;
+        int o = offset;
+        while (i + 3 <= length) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+            dst[o++] = BASE64URL_ALPHABET[(bits >>> 18) & 0x3F];
+            dst[o++] = BASE64URL_ALPHABET[(bits >>> 12) & 0x3F];
+            dst[o++] = BASE64URL_ALPHABET[(bits >>> 6) & 0x3F];
+            dst[o++] = BASE64URL_ALPHABET[bits & 0x3F];
+            i += 3;
+        }
+
+        int remaining = length - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xFF) << 16;
+            dst[o++] = BASE64URL_ALPHABET[(bits >>> 18) & 0x3F];
+            dst[o++] = BASE64URL_ALPHABET[(bits >>> 12) & 0x3F];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+            dst[o++] = BASE64URL_ALPHABET[(bits >>> 18) & 0x3F];
+            dst[o++] = BASE64URL_ALPHABET[(bits >>> 12) & 0x3F];
+            dst[o++] = BASE64URL_ALPHABET[(bits >>> 6) & 0x3F];
+        }
+        return o;
+    }
+
+    private static String encodeToString(byte[] src) {
+        byte[] dst = new byte[(src.length * 4 + 2) / 3];
+        int length = encode(src, src.length, dst, 0);
+        return new String(dst, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * token[from, to)의 패딩 없는 base64url 문자열을 dst에 디코딩한다.
+     * 정규 형태가 아닌 인코딩(남는 비트가 0이 아님)도 거부한다.
+     *
+     * @return 디코딩된 바이트 수, 형식이 올바르지 않거나 dst가 부족하면 -1
+     */
+    private static int decode(String token, int from, int to, byte[] dst) {
+        int length = to - from;
+        int remainder = length & 3;
+        if (remainder == 1 || (length / 4) * 3 + Math.max(remainder - 1, 0) > dst.length) {
+            return -1;
+        }
+
+        int o = 0;
+        int i = from;
+        int fullEnd = to - remainder;
+        while (i < fullEnd) {
+            int c0 = sextet(token.charAt(i));
+            int c1 = sextet(token.charAt(i + 1));
+            int c2 = sextet(token.charAt(i + 2));
+            int c3 = sextet(token.charAt(i + 3));
+            if ((c0 | c1 | c2 | c3) < 0) {
+                return -1;
+            }
+            int bits = c0 << 18 | c1 << 12 | c2 << 6 | c3;
+            dst[o++] = (byte) (bits >>> 16);
+            dst[o++] = (byte) (bits >>> 8);
+            dst[o++] = (byte) bits;
+            i += 4;
+        }
+
+        if (remainder == 2) {
+            int c0 = sextet(token.charAt(i));
+            int c1 = sextet(token.charAt(i + 1));
+            if ((c0 | c1) < 0 || (c1 & 0x0F) != 0) {
+                return -1;
+            }
+            dst[o++] = (byte) (c0 << 2 | c1 >>> 4);
+        } else if (remainder == 3) {
+            int c0 = sextet(token.charAt(i));
+            int c1 = sextet(token.charAt(i + 1));
+            int c2 = sextet(token.charAt(i + 2));
+            if ((c0 | c1 | c2) < 0 || (c2 & 0x03) != 0) {
+                return -1;
+            }
+            dst[o++] = (byte) (c0 << 2 | c1 >>> 4);
+            dst[o++] = (byte) (c1 << 4 | c2 >>> 2);
+        }
+        return o;
+    }
+
+    /**
+     * @return base64url 문자의 6bit 값, 알파벳이 아니면 -1
+     */
+    private static int sextet(char c) {
+        return c < 128 ? BASE64URL_DECODE[c] : -1;
+    }
+
+    private static int put(byte[] dst, int offset, byte[] src) {
+        System.arraycopy(src, 0, dst, offset, src.length);
+        return offset + src.length;
+    }
+
+    private static int putAscii(byte[] dst, int offset, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            dst[offset++] = (byte) value.charAt(i);
+        }
+        return offset;
+    }
+
+    private static int putLong(byte[] dst, int offset, long value) {
+        if (value == 0) {
+            dst[offset] = '0';
+            return offset + 1;
+        }
+        int digits = 0;
+        for (long v = value; v > 0; v /= 10) {
+            digits++;
+        }
+        int end = offset + digits;
+        for (int i = end - 1; i >= offset; i--) {
+            dst[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 스레드별로 재사용하는 작업 버퍼
+     */
+    private static final class Buffers {
+        private final byte[] token = new byte[BUFFER_SIZE];
+        private final byte[] json = new byte[BUFFER_SIZE];
+        private final byte[] expectedSignature = new byte[SIGNATURE_LENGTH];
+        private final byte[] actualSignature = new byte[SIGNATURE_LENGTH];
+    }
+
+    /**
+     * 고정 레이아웃 Payload를 순서대로 읽는다. 레이아웃이 다르면 null을 반환한다.
+     */
+    private static final class PayloadReader {
+        private final byte[] src;
+        private final int length;
+        private int pos;
+
+        private PayloadReader(byte[] src, int length) {
+            this.src = src;
+            this.length = length;
+        }
+
+        private AuthenticatedPrincipal read() {
+            if (!expect(SUB_START)) {
+                return null;
+            }
+            long userId = readLong();
+            if (userId < 0 || !expect(ROLE_START)) {
+                return null;
+            }
+            UserRole role = readRole();
+            if (role == null || !expect(IAT_START)) {
+                return null;
+            }
+            long issuedAt = readLong();
+            if (issuedAt < 0 || !expect(EXP_START)) {
+                return null;
+            }
+            long expiresAt = readLong();
+            if (expiresAt < 0 || !expect(JTI_START)) {
+                return null;
+            }
+            int jtiStart = pos;
+            while (pos < length && src[pos] != '"') {
+                // 이스케이프나 비 ASCII 문자가 있으면 jjwt로 위임
+                if (src[pos] == '\\' || src[pos] < 0x20) {
+                    return null;
+                }
+                pos++;
+            }
+            int jtiEnd = pos;
+            if (!expect(END) || pos != length) {
+                return null;
+            }
+
+            String jti = new String(src, jtiStart, jtiEnd - jtiStart, StandardCharsets.ISO_8859_1);
+            return new AuthenticatedPrincipal(userId, role, Instant.ofEpochSecond(expiresAt), jti);
+        }
+
+        private boolean expect(byte[] literal) {
+            if (pos + literal.length > length) {
+                return false;
+            }
+            for (int i = 0; i < literal.length; i++) {
+                if (src[pos + i] != literal[i]) {
+                    return false;
+                }
+            }
+            pos += literal.length;
+            return true;
+        }
+
+        /**
+         * @return 0 이상의 정수, 숫자가 없거나 18자리를 넘으면 -1
+         */
+        private long readLong() {
+            int start = pos;
+            long value = 0;
+            while (pos < length && src[pos] >= '0' && src[pos] <= '9') {
+                if (pos - start >= 18) {
+                    return -1;
+                }
+                value = value * 10 + (src[pos] - '0');
+                pos++;
+            }
+            return pos == start ? -1 : value;
+        }
+
+        private UserRole readRole() {
+            for (UserRole role : ROLES) {
+                byte[] name = ROLE_NAMES[role.ordinal()];
+                int end = pos + name.length;
+                if (end < length && src[end] == '"' && regionMatches(name)) {
+                    pos = end;
+                    return role;
+                }
+            }
+            return null;
+        }
+
+        private boolean regionMatches(byte[] name) {
+            for (int i = 0; i < name.length; i++) {
+                if (src[pos + i] != name[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
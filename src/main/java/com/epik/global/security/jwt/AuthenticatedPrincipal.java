@@ -0,0 +1,42 @@
+package com.epik.global.security.jwt;
+
+import com.epik.domain.auth.entity.enums.UserRole;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검증이 끝난 Access Token의 인증 주체.
+ * JwtAuthenticationFilter가 SecurityContext의 principal로 저장한다.
+ *
+ * @param userId    사용자 식별자 (sub)
+ * @param role      사용자 권한 (role)
+ * @param expiresAt 토큰 만료 시각 (exp)
+ * @param jti       토큰 식별자 (jti), 이전 버전 토큰은 null
+ */
+public record AuthenticatedPrincipal(
+        Long userId,
+        UserRole role,
+        Instant expiresAt,
+        String jti
+) {
+
+    // 권한 객체는 요청마다 만들지 않고 UserRole별로 한 번만 생성
+    private static final Map<UserRole, List<SimpleGrantedAuthority>> AUTHORITIES;
+
+    static {
+        Map<UserRole, List<SimpleGrantedAuthority>> authorities = new EnumMap<>(UserRole.class);
+        for (UserRole userRole : UserRole.values()) {
+            authorities.put(userRole, List.of(new SimpleGrantedAuthority(userRole.name())));
+        }
+        AUTHORITIES = Collections.unmodifiableMap(authorities);
+    }
+
+    public List<SimpleGrantedAuthority> authorities() {
+        return AUTHORITIES.get(role);
+    }
+}
@@ -0,0 +1,29 @@
+package com.epik.global.security.jwt;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 발급된 토큰과 발급 시 설정한 값들.
+ * 방금 서명한 토큰을 다시 파싱하지 않고 만료 시각 등을 바로 사용하기 위해 함께 반환한다.
+ *
+ * @param token     Compact 형식의 JWT
+ * @param jti       토큰 식별자 (jti Claim)
+ * @param issuedAt  발급 시각 (iat Claim)
+ * @param expiresAt 만료 시각 (exp Claim)
+ */
+public record IssuedToken(
+        String token,
+        String jti,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    /**
+     * @return 시스템 기본 시간대 기준 만료 시각 (엔티티 저장용)
+     */
+    public LocalDateTime expiresAtLocalDateTime() {
+        return LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault());
+    }
+}
@@ -4,36 +4,70 @@ import com.epik.domain.auth.entity.enums.UserRole;
 import com.epik.domain.oauth.dto.enums.SocialProvider;
 import com.epik.global.exception.custom.BusinessException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.security.Key;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final JwtParser accessTokenParser;
+    private final AccessTokenCodec accessTokenCodec;
+    private final JwtSigningKeyRing signingKeyRing;
     private final long accessTokenExpiration;
-    private final long refreshTokenExpiration;
     private final long registerTokenExpiration;
 
     public JwtProvider(@Value("${jwt.secret}") String secretKey,
                        @Value("${jwt.access-token.expiration}") long accessTokenExpiration,
-                       @Value("${jwt.refresh-token.expiration}") long refreshTokenExpiration,
-                       @Value("${jwt.register-token.expiration}") long registerTokenExpiration) {
+                       @Value("${jwt.register-token.expiration}") long registerTokenExpiration,
+                       JwtSigningKeyRing signingKeyRing) {
 
         // Base64 디코딩 후 HMAC SecretKey 생성
         byte[] byteSecretKey = Decoders.BASE64.decode(secretKey);
         this.secretKey = Keys.hmacShaKeyFor(byteSecretKey);
+        this.signingKeyRing = signingKeyRing;
+        // JwtParser는 불변 + thread-safe 이므로 한 번만 만들어 재사용
+        // HS* 토큰은 jwt.secret, 그 외(ES256)는 헤더의 kid로 공개키를 찾아 검증
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return locateVerificationKey(header);
+                    }
+                })
+                .build();
+        // Access Token 전용: ES256 모드에서는 전환 기간이 끝나면 HS256 토큰을 받지 않는다
+        this.accessTokenParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        if (isHmac(header) && !signingKeyRing.acceptsHs256AccessTokens(Instant.now())) {
+                            throw new UnsupportedJwtException("HS256 Access Token은 더 이상 허용되지 않습니다.");
+                        }
+                        return locateVerificationKey(header);
+                    }
+                })
+                .build();
+        // 우리 Access Token 전용 고정 레이아웃 HS256 코덱
+        this.accessTokenCodec = new AccessTokenCodec(byteSecretKey);
         this.accessTokenExpiration = accessTokenExpiration;
-        this.refreshTokenExpiration = refreshTokenExpiration;
         this.registerTokenExpiration = registerTokenExpiration;
     }
 
@@ -42,54 +76,30 @@ public class JwtProvider {
      *
      * @param id 사용자 식별자
      * @param role 사용자 권한
-     * @return JWT 형식의 Access Token
+     * @return 발급된 Access Token (jti, 발급/만료 시각 포함)
      */
-    public String createAccessToken(Long id, UserRole role) {
-        Date now = new Date();
-        Date expiration = new Date(now.getTime() + accessTokenExpiration);
-
-        return Jwts.builder()
-                .subject(id.toString())
-                .claim("role", role.name())
-                .issuedAt(now)
-                .expiration(expiration)
-                .signWith(secretKey)
-                .compact();
-    }
-
-    /**
-     * Refresh Token을 생성한다.
-     *
-     * @param id 사용자 식별자
-     * @param role 사용자 권한
-     * @return JWT 형식의 Refresh Token
-     */
-    public String createRefreshToken(Long id, UserRole role) {
-        Date now = new Date();
-        Date expiration = new Date(now.getTime() + refreshTokenExpiration);
-
-        return Jwts.builder()
-                .subject(id.toString())
-                .claim("role", role)
-                .issuedAt(now)
-                .expiration(expiration)
-                .signWith(secretKey)
-                .compact();
-    }
-
-    /**
-     * JWT에서 만료 시간을 추출하여 LocalDateTime으로 변환한다.
-     *
-     * @param refreshToken 만료 시간을 확인할 Refresh Token
-     * @return 만료 시간 (LocalDateTime)
-     */
-    public LocalDateTime extractExpiry(String refreshToken) {
-        Claims claims = validateAndGetClaims(refreshToken);
+    public IssuedToken createAccessToken(Long id, UserRole role) {
+        // JWT의 iat/exp는 초 단위이므로 반환값도 초 단위로 맞춘다
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant expiration = now.plusMillis(accessTokenExpiration);
+        String jti = UUID.randomUUID().toString();
+
+        // ES256 모드: 현재 서명 키(kid)로 서명해서 다른 서비스가 JWKS로 검증할 수 있도록 한다
+        JwtSigningKeyRing.SigningKey signingKey = signingKeyRing.currentSigningKey();
+        if (signingKey != null) {
+            String token = Jwts.builder()
+                    .header().keyId(signingKey.kid()).and()
+                    .subject(id.toString())
+                    .claim("role", role.name())
+                    .issuedAt(Date.from(now))
+                    .expiration(Date.from(expiration))
+                    .id(jti)
+                    .signWith(signingKey.privateKey(), Jwts.SIG.ES256)
+                    .compact();
+            return new IssuedToken(token, jti, now, expiration);
+        }
 
-        return claims.getExpiration()
-                .toInstant()
-                .atZone(ZoneId.systemDefault())
-                .toLocalDateTime();
+        return new IssuedToken(accessTokenCodec.encode(id, role, now, expiration, jti), jti, now, expiration);
     }
 
     /**
@@ -101,13 +111,34 @@ public class JwtProvider {
      * @throws JwtException 토큰이 유효하지 않은 경우
      */
     public Claims validateAndGetClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
+    /**
+     * Access Token을 한 번만 검증하고 인증 주체 정보를 추출한다.
+     * 서명 검증과 Claims 파싱을 한 번에 처리하므로 필터에서는 이 메서드만 호출한다.
+     * HS256 고정 레이아웃 토큰은 AccessTokenCodec으로, 나머지는 jjwt로 검증한다.
+     * ES256 모드에서 HS256 토큰은 jwt.signing.hs256-accepted-until 전까지만 받는다.
+     *
+     * @param token Access Token
+     * @return 검증된 인증 주체 (userId, role, exp, jti)
+     * @throws JwtException 토큰이 유효하지 않거나 필수 Claim이 올바르지 않은 경우
+     */
+    public AuthenticatedPrincipal parseAccessToken(String token) {
+        // 우리가 발급한 고정 레이아웃 토큰은 전용 코덱으로 처리
+        if (signingKeyRing.acceptsHs256AccessTokens(Instant.now())) {
+            AuthenticatedPrincipal principal = accessTokenCodec.decode(token);
+            if (principal != null) {
+                return principal;
+            }
+        }
+
+        // 그 외 형식(ES256, 이전 버전 토큰 등)은 jjwt로 검증
+        return toPrincipal(accessTokenParser.parseSignedClaims(token).getPayload());
+    }
+
     /**
      * Token의 유효성을 검증
      *
@@ -116,10 +147,7 @@ public class JwtProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);  // Claims는 버림
+            jwtParser.parseSignedClaims(token);  // Claims는 버림
             return true;
         } catch (JwtException e) {
             return false;
@@ -131,20 +159,23 @@ public class JwtProvider {
      * @param providerName 카카오/구글 등 소셜 플랫폼 이름
      * @param socialId 소셜 로그인 계정의 고유 ID (sub)
      * @param email 소셜 계정에서 가져온 이메일
-     * @return Register Token
+     * @return 발급된 Register Token (jti, 발급/만료 시각 포함)
      */
-    public String createRegisterToken(SocialProvider providerName, String socialId, String email) {
-        Date now = new Date();
-        Date expiry = new Date(now.getTime() + registerTokenExpiration);
+    public IssuedToken createRegisterToken(SocialProvider providerName, String socialId, String email) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant expiration = now.plusMillis(registerTokenExpiration);
+        String jti = UUID.randomUUID().toString();
 
-        return Jwts.builder()
+        String token = Jwts.builder()
                 .subject("social_signup")
                 .claim("provider", providerName)
                 .claim("socialId", socialId)
                 .claim("email", email)
-                .expiration(expiry)
+                .expiration(Date.from(expiration))
+                .id(jti)
                 .signWith(secretKey)
                 .compact();
+        return new IssuedToken(token, jti, now, expiration);
     }
 
 
@@ -157,4 +188,50 @@ public class JwtProvider {
         Claims claims = validateAndGetClaims(token);
         return claims.get("role", String.class);
     }
+
+    /**
+     * JWT 헤더의 alg/kid로 검증 키를 결정한다.
+     * HMAC 토큰(Register, HS256 Access)은 jwt.secret, ES256 토큰은 kid에 해당하는 공개키를 사용한다.
+     *
+     * @throws MalformedJwtException kid가 없거나 알 수 없는 경우
+     */
+    private Key locateVerificationKey(JwsHeader header) {
+        if (isHmac(header)) {
+            return secretKey;
+        }
+
+        String kid = header.getKeyId();
+        Key publicKey = kid != null ? signingKeyRing.findVerificationKey(kid) : null;
+        if (publicKey == null) {
+            throw new MalformedJwtException("알 수 없는 서명 키입니다. kid=" + kid);
+        }
+        return publicKey;
+    }
+
+    private static boolean isHmac(JwsHeader header) {
+        String algorithm = header.getAlgorithm();
+        return algorithm != null && algorithm.startsWith("HS");
+    }
+
+    /**
+     * 검증된 Claims를 AuthenticatedPrincipal로 변환한다.
+     *
+     * @throws MalformedJwtException sub 또는 role Claim이 올바르지 않은 경우
+     */
+    private AuthenticatedPrincipal toPrincipal(Claims claims) {
+        try {
+            Long userId = Long.parseLong(claims.getSubject());
+            UserRole role = UserRole.valueOf(claims.get("role", String.class));
+            Date expiration = claims.getExpiration();
+
+            return new AuthenticatedPrincipal(
+                    userId,
+                    role,
+                    expiration != null ? expiration.toInstant() : null,
+                    claims.getId()
+            );
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new MalformedJwtException("Access Token의 sub/role Claim이 올바르지 않습니다.", e);
+        }
+    }
 }
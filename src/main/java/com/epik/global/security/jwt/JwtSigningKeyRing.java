@@ -0,0 +1,291 @@
+package com.epik.global.security.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Access Token ES256 서명 키 관리.
+ *
+ * - jwt.signing.keys에 설정된 키 중 activatesAt이 지난 가장 최신 키로 서명한다.
+ * - 폐기(retiresAt)되지 않은 키는 모두 검증에 사용하고 JWKS로 공개한다.
+ *   (활성화 전 키도 미리 공개해서 다른 서비스가 교체 전에 캐싱할 수 있도록 한다)
+ * - keys가 없으면 시작에 실패한다. ephemeralKeysEnabled일 때만 노드별 임시 키를 만들어 ephemeralRotationPeriod마다 교체한다.
+ *   (노드마다 키가 달라서 다른 노드가 발급한 토큰을 검증하지 못하므로 단일 노드/개발용)
+ * - ES256 모드에서 HS256 Access Token은 hs256AcceptedUntil 전까지만 받는다. (전환 기간)
+ *
+ * 키 교체는 스케줄러가 주기적으로 재평가하므로 재시작 없이 적용된다.
+ * 재평가에 실패하면(활성 키 없음 등) 마지막으로 유효했던 키 집합을 그대로 유지하고 에러 로그와 지표로 알린다.
+ */
+@Slf4j
+@Component
+public class JwtSigningKeyRing {
+
+    private static final String ES256 = "ES256";
+    private static final String HS256 = "HS256";
+
+    private final boolean asymmetric;
+    private final List<SigningKey> configuredKeys;
+    private final Duration ephemeralRotationPeriod;
+    private final Duration verificationGracePeriod;
+    private final Instant hs256AcceptedUntil;
+    private final Counter rotationFailures;
+
+    // 임시 키 모드에서 생성한 키 (rotate()에서만 변경)
+    private final List<SigningKey> ephemeralKeys = new ArrayList<>();
+
+    private volatile KeySet keySet = KeySet.EMPTY;
+    // 마지막 재평가 실패 여부 (지표/알림용)
+    private volatile boolean degraded;
+
+    public JwtSigningKeyRing(JwtSigningProperties properties,
+                             MeterRegistry meterRegistry,
+                             @Value("${jwt.access-token.expiration}") long accessTokenExpiration) {
+        String algorithm = properties.algorithm().toUpperCase();
+        if (!ES256.equals(algorithm) && !HS256.equals(algorithm)) {
+            throw new IllegalStateException("지원하지 않는 jwt.signing.algorithm: " + properties.algorithm());
+        }
+
+        this.asymmetric = ES256.equals(algorithm);
+        this.configuredKeys = parseKeys(properties.keys());
+        this.ephemeralRotationPeriod = properties.ephemeralRotationPeriod();
+        // 교체된 임시 키는 마지막으로 서명한 Access Token이 만료될 때까지 검증에 사용
+        this.verificationGracePeriod = Duration.ofMillis(accessTokenExpiration);
+        this.hs256AcceptedUntil = properties.hs256AcceptedUntil();
+
+        this.rotationFailures = Counter.builder("jwt.signing.rotation_failures")
+                .description("서명 키 재평가 실패 횟수 (마지막 유효 키 집합 유지)")
+                .register(meterRegistry);
+        Gauge.builder("jwt.signing.degraded", this, ring -> ring.degraded ? 1 : 0)
+                .description("서명 키 재평가 실패로 마지막 유효 키 집합을 사용 중이면 1")
+                .register(meterRegistry);
+
+        if (asymmetric) {
+            if (configuredKeys.isEmpty()) {
+                if (!properties.ephemeralKeysEnabled()) {
+                    throw new IllegalStateException("jwt.signing.keys가 없습니다. 다중 노드에서는 모든 노드가 같은 키를 사용해야 합니다. "
+                            + "단일 노드/개발 환경이면 jwt.signing.ephemeral-keys-enabled=true로 설정해주세요.");
+                }
+                log.warn("jwt.signing.keys 미설정 - 노드별 임시 ES256 키를 사용합니다. (ephemeral-keys-enabled)");
+            }
+            // 시작 시에는 활성 키가 없으면 바로 실패
+            keySet = computeKeySet(Instant.now());
+            log.info("Access Token 서명 키 - kid: {}, 검증 키: {}", keySet.signingKey().kid(), keySet.keysByKid().keySet());
+        }
+
+        log.info("JwtSigningKeyRing 초기화 완료 - algorithm: {}, 설정된 키: {}개", algorithm, configuredKeys.size());
+    }
+
+    /**
+     * @return Access Token을 ES256으로 서명하는지 여부 (false면 HS256)
+     */
+    public boolean isAsymmetric() {
+        return asymmetric;
+    }
+
+    /**
+     * @return 현재 서명 키, HS256 모드면 null
+     */
+    public SigningKey currentSigningKey() {
+        return keySet.signingKey();
+    }
+
+    /**
+     * kid에 해당하는 검증용 공개키를 찾는다.
+     *
+     * @param kid JWT 헤더의 kid
+     * @return 공개키, 없거나 폐기된 키면 null
+     */
+    public ECPublicKey findVerificationKey(String kid) {
+        SigningKey key = keySet.keysByKid().get(kid);
+        return key != null ? key.publicKey() : null;
+    }
+
+    /**
+     * @return JWKS로 공개할 키 목록
+     */
+    public List<SigningKey> publishedKeys() {
+        return keySet.publishedKeys();
+    }
+
+    /**
+     * HS256 Access Token을 받아도 되는지 확인한다.
+     * HS256 모드에서는 항상, ES256 모드에서는 hs256AcceptedUntil 전까지만 허용한다.
+     *
+     * @param now 현재 시각
+     */
+    public boolean acceptsHs256AccessTokens(Instant now) {
+        return !asymmetric || (hs256AcceptedUntil != null && now.isBefore(hs256AcceptedUntil));
+    }
+
+    /**
+     * 현재 시각 기준으로 서명 키와 검증 키 목록을 다시 계산한다.
+     * 임시 키 모드에서는 교체 주기가 지난 경우 새 키를 생성한다.
+     * 실패하면 예외를 던지지 않고 마지막으로 유효했던 키 집합을 유지한다. (스케줄러가 매 주기 예외를 남기지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.rotation-check-interval:60000}")
+    public synchronized void rotate() {
+        if (!asymmetric) {
+            return;
+        }
+
+        KeySet previous = keySet;
+        KeySet next;
+        try {
+            next = computeKeySet(Instant.now());
+        } catch (RuntimeException e) {
+            degraded = true;
+            rotationFailures.increment();
+            log.error("[ALERT] Access Token 서명 키 재평가 실패 - 마지막 유효 키 집합 유지 (kid: {}), 원인: {}",
+                    previous.signingKey().kid(), e.getMessage(), e);
+            return;
+        }
+
+        degraded = false;
+        keySet = next;
+        if (!previous.signingKey().kid().equals(next.signingKey().kid())) {
+            log.info("Access Token 서명 키 교체 - kid: {}, 검증 키: {}", next.signingKey().kid(), next.keysByKid().keySet());
+        }
+    }
+
+    // ========== Private (내부용) ==========
+
+    /**
+     * @throws IllegalStateException 활성화된 서명 키가 없는 경우
+     */
+    private KeySet computeKeySet(Instant now) {
+        List<SigningKey> candidates = configuredKeys.isEmpty() ? rotateEphemeralKeys(now) : configuredKeys;
+
+        SigningKey signingKey = null;
+        Map<String, SigningKey> keysByKid = new LinkedHashMap<>();
+
+        for (SigningKey key : candidates) {
+            if (key.isRetired(now)) {
+                continue;
+            }
+            keysByKid.put(key.kid(), key);
+
+            if (key.isActive(now)
+                    && (signingKey == null || key.activatesAt().isAfter(signingKey.activatesAt()))) {
+                signingKey = key;
+            }
+        }
+
+        if (signingKey == null) {
+            throw new IllegalStateException("활성화된 ES256 서명 키가 없습니다. jwt.signing.keys를 확인해주세요.");
+        }
+
+        return new KeySet(signingKey, Collections.unmodifiableMap(keysByKid), List.copyOf(keysByKid.values()));
+    }
+
+    private List<SigningKey> rotateEphemeralKeys(Instant now) {
+        SigningKey latest = ephemeralKeys.isEmpty() ? null : ephemeralKeys.get(ephemeralKeys.size() - 1);
+
+        if (latest == null || !latest.activatesAt().plus(ephemeralRotationPeriod).isAfter(now)) {
+            // 이전 키는 grace 기간 후 폐기
+            if (latest != null) {
+                ephemeralKeys.set(ephemeralKeys.size() - 1, latest.retireAt(now.plus(verificationGracePeriod)));
+            }
+            ephemeralKeys.add(generateKey(now));
+        }
+
+        ephemeralKeys.removeIf(key -> key.isRetired(now));
+        return ephemeralKeys;
+    }
+
+    private static SigningKey generateKey(Instant now) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair keyPair = generator.generateKeyPair();
+
+            return new SigningKey(UUID.randomUUID().toString(), keyPair.getPrivate(),
+                    (ECPublicKey) keyPair.getPublic(), now, null);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("ES256 키 생성에 실패했습니다.", e);
+        }
+    }
+
+    private static List<SigningKey> parseKeys(List<JwtSigningProperties.Key> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            List<SigningKey> parsed = new ArrayList<>();
+
+            for (JwtSigningProperties.Key key : keys) {
+                PrivateKey privateKey = keyFactory.generatePrivate(
+                        new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(key.privateKey())));
+                ECPublicKey publicKey = (ECPublicKey) keyFactory.generatePublic(
+                        new X509EncodedKeySpec(Base64.getMimeDecoder().decode(key.publicKey())));
+                Instant activatesAt = key.activatesAt() != null ? key.activatesAt() : Instant.EPOCH;
+
+                parsed.add(new SigningKey(key.kid(), privateKey, publicKey, activatesAt, key.retiresAt()));
+            }
+
+            parsed.sort(Comparator.comparing(SigningKey::activatesAt));
+            return List.copyOf(parsed);
+
+        } catch (GeneralSecurityException | IllegalArgumentException | ClassCastException e) {
+            throw new IllegalStateException("jwt.signing.keys의 EC 키를 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * ES256 서명 키
+     */
+    public record SigningKey(
+            String kid,
+            PrivateKey privateKey,
+            ECPublicKey publicKey,
+            Instant activatesAt,
+            Instant retiresAt
+    ) {
+
+        boolean isActive(Instant now) {
+            return !activatesAt.isAfter(now);
+        }
+
+        boolean isRetired(Instant now) {
+            return retiresAt != null && !retiresAt.isAfter(now);
+        }
+
+        SigningKey retireAt(Instant retiresAt) {
+            return new SigningKey(kid, privateKey, publicKey, activatesAt, retiresAt);
+        }
+    }
+
+    private record KeySet(
+            SigningKey signingKey,
+            Map<String, SigningKey> keysByKid,
+            List<SigningKey> publishedKeys
+    ) {
+        private static final KeySet EMPTY = new KeySet(null, Map.of(), List.of());
+    }
+}
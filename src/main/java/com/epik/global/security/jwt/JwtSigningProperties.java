@@ -0,0 +1,43 @@
+package com.epik.global.security.jwt;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Access Token 서명 설정 (jwt.signing.*)
+ *
+ * @param algorithm               HS256(jwt.secret 사용) 또는 ES256
+ * @param keys                    ES256 서명 키 목록 (kid별, 활성/폐기 시각 포함)
+ * @param ephemeralKeysEnabled    ES256인데 keys가 없을 때 노드별 임시 키 사용 허용 (단일 노드/개발용, 기본은 시작 실패)
+ * @param ephemeralRotationPeriod 노드별 임시 키 교체 주기
+ * @param hs256AcceptedUntil      ES256 모드에서 이전에 발급된 HS256 Access Token을 받아주는 마지막 시각 (null이면 받지 않음)
+ */
+@ConfigurationProperties(prefix = "jwt.signing")
+public record JwtSigningProperties(
+        @DefaultValue("HS256") String algorithm,
+        List<Key> keys,
+        @DefaultValue("false") boolean ephemeralKeysEnabled,
+        @DefaultValue("24h") Duration ephemeralRotationPeriod,
+        Instant hs256AcceptedUntil
+) {
+
+    /**
+     * @param kid         키 식별자 (JWT 헤더의 kid)
+     * @param privateKey  PKCS#8 DER을 Base64로 인코딩한 EC(P-256) 개인키
+     * @param publicKey   X.509 DER을 Base64로 인코딩한 EC(P-256) 공개키
+     * @param activatesAt 이 시각부터 서명에 사용 (이전에는 JWKS에만 공개)
+     * @param retiresAt   이 시각 이후 검증/공개 중단 (null이면 무기한)
+     */
+    public record Key(
+            String kid,
+            String privateKey,
+            String publicKey,
+            Instant activatesAt,
+            Instant retiresAt
+    ) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.epik.global.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * 현재 하드웨어에서 목표 시간 안에 끝나는 가장 높은 BCrypt cost를 찾는다.
+ *
+ * cost가 1 오를 때마다 해싱 시간이 두 배가 되므로, 하한부터 측정하면서
+ * 다음 cost의 예상 시간(현재 x 2)이 목표를 넘지 않을 때만 올린다.
+ */
+@Slf4j
+public final class BcryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Passw0rd!";
+    private static final int SAMPLES = 2;
+
+    private BcryptCostCalibrator() {
+    }
+
+    public static int calibrate(int minStrength, int maxStrength, Duration targetLatency) {
+        long targetNanos = targetLatency.toNanos();
+
+        // JIT 워밍업
+        new BCryptPasswordEncoder(minStrength).encode(SAMPLE_PASSWORD);
+
+        int strength = minStrength;
+        long elapsed = measure(strength);
+        while (strength < maxStrength && elapsed * 2 <= targetNanos) {
+            strength++;
+            elapsed = measure(strength);
+        }
+        // 예상보다 느렸으면 한 단계 내린다 (하한 아래로는 내리지 않음)
+        if (elapsed > targetNanos && strength > minStrength) {
+            strength--;
+        }
+
+        log.info("[PasswordHashing] BCrypt cost 보정 - cost: {}, 측정: {}ms, 목표: {}ms",
+                strength, elapsed / 1_000_000, targetLatency.toMillis());
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,145 @@
+package com.epik.global.security.password;
+
+import com.epik.global.exception.custom.RetryLaterException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱/검증을 전용 스레드 풀에서 실행하는 PasswordEncoder.
+ *
+ * BCrypt는 CPU를 오래 쓰므로 요청 스레드에서 바로 실행하면 로그인이 몰릴 때 모든 Tomcat 스레드가 해싱에 묶인다.
+ * - 코어 수만큼의 스레드와 제한된 대기열에서만 실행한다.
+ * - 대기열이 가득 차거나 timeout 안에 끝나지 않으면 RetryLaterException(503 + Retry-After)으로 바로 거절한다.
+ * - 대기 시간/실행 시간/대기열 길이/거절 횟수를 메트릭으로 노출한다.
+ */
+@Slf4j
+public class OffloadingPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Duration retryAfter;
+
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+    private final Counter rejected;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate,
+                                     int threads,
+                                     int queueCapacity,
+                                     Duration timeout,
+                                     Duration retryAfter,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.retryAfter = retryAfter;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.waitTimer = Timer.builder("auth.password_hashing.wait")
+                .description("해싱 작업이 대기열에서 기다린 시간")
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("auth.password_hashing.duration")
+                .description("해싱/검증 실행 시간")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.password_hashing.rejected")
+                .description("대기열 초과 또는 timeout으로 거절된 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password_hashing.queue", executor, e -> e.getQueue().size())
+                .description("대기 중인 해싱 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password_hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 해싱 작업 수")
+                .register(meterRegistry);
+
+        log.info("OffloadingPasswordEncoder 초기화 완료 - threads: {}, queueCapacity: {}, timeout: {}",
+                threads, queueCapacity, timeout);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 해시 접두어만 확인하므로 요청 스레드에서 바로 실행
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new RetryLaterException(retryAfter);
+        }
+
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에 남아 있으면 실행하지 않도록 취소
+            future.cancel(false);
+            rejected.increment();
+            throw new RetryLaterException(retryAfter);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new RetryLaterException(retryAfter);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("비밀번호 해싱에 실패했습니다.", cause);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.epik.global.security.password;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해싱 설정 (auth.password-hashing.*)
+ *
+ * @param algorithm     새 해시에 사용할 알고리즘 (bcrypt, argon2)
+ * @param threads       해싱 전용 스레드 수 (0 이하면 CPU 코어 수)
+ * @param queueCapacity 해싱 대기열 크기 (초과하면 503 + Retry-After)
+ * @param timeout       대기 + 실행 시간 상한
+ * @param retryAfter    거절 시 Retry-After
+ * @param bcrypt        BCrypt cost 설정
+ */
+@ConfigurationProperties(prefix = "auth.password-hashing")
+public record PasswordHashingProperties(
+        @DefaultValue("bcrypt") String algorithm,
+        @DefaultValue("0") int threads,
+        @DefaultValue("64") int queueCapacity,
+        @DefaultValue("5s") Duration timeout,
+        @DefaultValue("1s") Duration retryAfter,
+        @DefaultValue Bcrypt bcrypt
+) {
+
+    /**
+     * cost가 노드마다 다르면 노드를 오갈 때마다 upgradeEncoding이 true가 되어 재해싱이 반복되므로 기본은 고정 cost이다.
+     *
+     * @param strength      고정 cost
+     * @param calibrate     true면 strength 대신 시작 시 targetLatency에 맞춰 보정 (모든 노드의 하드웨어가 같을 때만)
+     * @param minStrength   보정 하한
+     * @param maxStrength   보정 상한
+     * @param targetLatency 해시 1회에 허용할 시간
+     */
+    public record Bcrypt(
+            @DefaultValue("10") int strength,
+            @DefaultValue("false") boolean calibrate,
+            @DefaultValue("10") int minStrength,
+            @DefaultValue("14") int maxStrength,
+            @DefaultValue("250ms") Duration targetLatency
+    ) {
+    }
+}
@@ -0,0 +1,12 @@
+-- Refresh Token을 JWT 원문(token VARCHAR(512))에서 Opaque 토큰의 SHA-256 해시(token_hash BINARY(32))로 변경
+-- ddl-auto: update는 컬럼 삭제/NOT NULL 컬럼 추가를 처리하지 못하므로 배포 전에 수동으로 실행한다.
+-- 기존 JWT Refresh Token은 더 이상 사용할 수 없으므로 삭제한다. (해당 사용자는 다시 로그인)
+
+DELETE FROM refresh_tokens;
+
+ALTER TABLE refresh_tokens
+    DROP COLUMN token,
+    ADD COLUMN token_hash BINARY(32) NOT NULL AFTER id,
+    ADD CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash);
+
+CREATE INDEX idx_refresh_tokens_user_id ON refresh_tokens (user_id);
@@ -0,0 +1,18 @@
+-- Refresh Token을 사용자당 1개에서 기기(로그인 세션)별 family로 변경
+-- family_id: 로그인 세션 식별자, rotation_counter: 재발급 횟수, previous_token_hash: 재사용 감지용 직전 토큰 해시
+-- 기존 행은 각각 하나의 family가 된다.
+
+ALTER TABLE refresh_tokens
+    ADD COLUMN family_id CHAR(36) NULL AFTER token_hash,
+    ADD COLUMN rotation_counter INT NOT NULL DEFAULT 0 AFTER family_id,
+    ADD COLUMN previous_token_hash BINARY(32) NULL AFTER rotation_counter;
+
+UPDATE refresh_tokens SET family_id = UUID() WHERE family_id IS NULL;
+
+ALTER TABLE refresh_tokens MODIFY family_id CHAR(36) NOT NULL;
+
+-- (user_id, family_id) 복합 인덱스가 user_id 단일 인덱스를 대체한다
+CREATE INDEX idx_refresh_tokens_user_id_family_id ON refresh_tokens (user_id, family_id);
+DROP INDEX idx_refresh_tokens_user_id ON refresh_tokens;
+
+CREATE INDEX idx_refresh_tokens_previous_token_hash ON refresh_tokens (previous_token_hash);
@@ -0,0 +1,4 @@
+-- 다른 노드의 동시 재발급을 감지하기 위한 낙관적 락 버전 컬럼
+
+ALTER TABLE refresh_tokens
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0 AFTER previous_token_hash;
@@ -0,0 +1,9 @@
+-- 닉네임 임시 선점 (auth.nickname-reservation.store=database일 때 사용)
+
+CREATE TABLE nickname_reservations (
+    nickname_key VARCHAR(64) NOT NULL,
+    nonce        VARCHAR(64) NOT NULL,
+    expires_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (nickname_key),
+    INDEX idx_nickname_reservations_expires_at (expires_at)
+);
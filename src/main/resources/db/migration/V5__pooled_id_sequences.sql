@@ -0,0 +1,27 @@
+-- IDENTITY -> 테이블 기반 pooled ID 생성기 (IdGenerators) 전환
+-- 반드시 새 버전 배포 전에 실행한다. (행이 없으면 Hibernate가 초기값부터 시작해서 기존 id와 충돌한다)
+--
+-- pooled 최적화기는 읽은 next_val을 블록의 끝으로 보고 (next_val - 49) ~ next_val을 사용하므로
+-- next_val은 현재 최대 id + 할당 크기(50)로 초기화한다.
+-- 기존 AUTO_INCREMENT 속성은 그대로 두어도 된다. (id를 직접 지정해서 INSERT하므로 사용되지 않는다)
+
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT       NOT NULL,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'users', COALESCE(MAX(id), 0) + 50 FROM users;
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'user_consents', COALESCE(MAX(id), 0) + 50 FROM user_consents;
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'social_logins', COALESCE(MAX(id), 0) + 50 FROM social_logins;
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'refresh_tokens', COALESCE(MAX(id), 0) + 50 FROM refresh_tokens;
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'password_reset_tokens', COALESCE(MAX(id), 0) + 50 FROM password_reset_tokens;
@@ -0,0 +1,13 @@
+-- 끝내 발송하지 못한 메일 (재시도 소진, 대기열 초과, 종료 시 미발송)
+
+CREATE TABLE mail_dead_letters (
+    id           BIGINT        NOT NULL AUTO_INCREMENT,
+    recipient    VARCHAR(255)  NOT NULL,
+    subject      VARCHAR(255)  NOT NULL,
+    html_content MEDIUMTEXT    NOT NULL,
+    attempts     INT           NOT NULL,
+    last_error   VARCHAR(1000),
+    failed_at    DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_mail_dead_letters_failed_at (failed_at)
+);
@@ -0,0 +1,27 @@
+-- 메일 transactional outbox (EmailOutboxRelay가 FOR UPDATE SKIP LOCKED로 가져가 발송)
+-- 메모리 대기열 + mail_dead_letters를 대체한다. 기존 dead letter는 FAILED 행으로 옮긴다.
+
+CREATE TABLE email_outbox (
+    id              BIGINT        NOT NULL,
+    recipient       VARCHAR(255)  NOT NULL,
+    subject         VARCHAR(255)  NOT NULL,
+    html_content    MEDIUMTEXT    NOT NULL,
+    status          VARCHAR(20)   NOT NULL,
+    attempts        INT           NOT NULL,
+    next_attempt_at DATETIME(6)   NOT NULL,
+    last_error      VARCHAR(1000),
+    created_at      DATETIME(6)   NOT NULL,
+    sent_at         DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_email_outbox_status_next_attempt_at (status, next_attempt_at),
+    INDEX idx_email_outbox_status_sent_at (status, sent_at)
+);
+
+INSERT INTO email_outbox (id, recipient, subject, html_content, status, attempts, next_attempt_at, last_error, created_at)
+SELECT id, recipient, subject, html_content, 'FAILED', attempts, failed_at, last_error, failed_at
+FROM mail_dead_letters;
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'email_outbox', COALESCE(MAX(id), 0) + 50 FROM email_outbox;
+
+DROP TABLE mail_dead_letters;
@@ -0,0 +1,28 @@
+-- 교체된 Refresh Token 해시를 family별로 보관 (몇 세대 전 토큰이 재사용되어도 family 폐기)
+-- refresh_tokens.previous_token_hash(직전 1세대만 보관)를 대체한다.
+
+CREATE TABLE refresh_token_tombstones (
+    id          BIGINT      NOT NULL,
+    token_hash  BINARY(32)  NOT NULL,
+    user_id     BIGINT      NOT NULL,
+    family_id   CHAR(36)    NOT NULL,
+    rotated_at  DATETIME(6) NOT NULL,
+    expires_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_token_tombstones_token_hash UNIQUE (token_hash),
+    INDEX idx_refresh_token_tombstones_user_id_family_id (user_id, family_id),
+    INDEX idx_refresh_token_tombstones_expires_at (expires_at)
+);
+
+-- 기존 직전 토큰 해시 이전 (교체 시각 = 현재 만료 시각 - 수명 14일, 원래 만료 시각은 알 수 없으므로 교체 시각 + 수명)
+INSERT INTO refresh_token_tombstones (id, token_hash, user_id, family_id, rotated_at, expires_at)
+SELECT ROW_NUMBER() OVER (ORDER BY id), previous_token_hash, user_id, family_id,
+       expires_at - INTERVAL 14 DAY, expires_at
+FROM refresh_tokens
+WHERE previous_token_hash IS NOT NULL;
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'refresh_token_tombstones', COALESCE(MAX(id), 0) + 50 FROM refresh_token_tombstones;
+
+DROP INDEX idx_refresh_tokens_previous_token_hash ON refresh_tokens;
+ALTER TABLE refresh_tokens DROP COLUMN previous_token_hash;
@@ -0,0 +1,100 @@
+package com.epik.domain.auth.availability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 있을 수도 있음으로 나온다 (거짓 음성 없음)")
+    void noFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@epik.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@epik.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 원소 수만큼 넣었을 때 오탐률이 목표 근처이고 추정치와 비슷하다")
+    void falsePositiveRateNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("member-" + i);
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+        double observed = (double) falsePositives / probes;
+
+        assertThat(observed).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.02);
+    }
+
+    @Test
+    @DisplayName("예상 원소 수를 넘겨 넣으면 오탐률 추정치가 목표보다 커진다")
+    void expectedFalsePositiveRateGrowsWhenOverfilled() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        assertThat(filter.expectedFalsePositiveRate()).isZero();
+
+        for (int i = 0; i < 5_000; i++) {
+            filter.put("member-" + i);
+        }
+        assertThat(filter.expectedFalsePositiveRate()).isGreaterThan(0.1);
+    }
+
+    @Test
+    @DisplayName("비트 배열 크기와 해시 수는 예상 원소 수와 오탐률로 정해진다")
+    void sizing() {
+        BloomFilter filter = new BloomFilter(1_000_000, 0.01);
+
+        // m = -n ln p / (ln 2)^2 ≈ 9.59 bit/원소, k = m/n ln 2 ≈ 7
+        assertThat(filter.memoryBytes()).isBetween(1_190_000L, 1_210_000L);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 추가해도 값을 잃지 않는다")
+    void concurrentPuts() throws Exception {
+        BloomFilter filter = new BloomFilter(40_000, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        filter.put(thread + "-" + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int t = 0; t < 4; t++) {
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(filter.mightContain(t + "-" + i)).isTrue();
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.epik.domain.auth.availability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryNicknameReservationStoreTest {
+
+    private static final String NICKNAME = "epik";
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final InMemoryNicknameReservationStore store = new InMemoryNicknameReservationStore(100);
+
+    @Test
+    @DisplayName("다른 nonce가 선점 중이면 실패하고, 같은 nonce는 갱신된다")
+    void reserveIsExclusivePerNonce() {
+        assertThat(store.reserve(NICKNAME, "a", TTL)).isTrue();
+        assertThat(store.reserve(NICKNAME, "b", TTL)).isFalse();
+        assertThat(store.reserve(NICKNAME, "a", TTL)).isTrue();
+
+        assertThat(store.isHeldByOther(NICKNAME, "a")).isFalse();
+        assertThat(store.isHeldByOther(NICKNAME, "b")).isTrue();
+        assertThat(store.isHeldByOther(NICKNAME, null)).isTrue();
+        assertThat(store.isHeldByOther("other", "b")).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 선점은 없는 것으로 보고 다른 nonce가 가져갈 수 있다")
+    void expiredReservationCanBeTakenOver() throws InterruptedException {
+        assertThat(store.reserve(NICKNAME, "a", Duration.ofMillis(1))).isTrue();
+        Thread.sleep(10);
+
+        assertThat(store.isHeldByOther(NICKNAME, "b")).isFalse();
+        assertThat(store.reserve(NICKNAME, "b", TTL)).isTrue();
+        assertThat(store.isHeldByOther(NICKNAME, "a")).isTrue();
+    }
+
+    @Test
+    @DisplayName("선점은 소유한 nonce만 해제할 수 있다")
+    void releaseOnlyByOwner() {
+        store.reserve(NICKNAME, "a", TTL);
+
+        store.release(NICKNAME, "b");
+        assertThat(store.isHeldByOther(NICKNAME, "b")).isTrue();
+
+        store.release(NICKNAME, "a");
+        assertThat(store.isHeldByOther(NICKNAME, "b")).isFalse();
+        assertThat(store.reserve(NICKNAME, "b", TTL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("정리 작업은 만료된 선점만 제거한다")
+    void evictExpiredKeepsValidReservations() throws InterruptedException {
+        store.reserve("expired", "a", Duration.ofMillis(1));
+        store.reserve("valid", "a", TTL);
+        Thread.sleep(10);
+
+        store.evictExpired();
+
+        assertThat(store.isHeldByOther("expired", "b")).isFalse();
+        assertThat(store.isHeldByOther("valid", "b")).isTrue();
+    }
+
+    @Test
+    @DisplayName("최대 개수에 도달하면 새 닉네임은 잡아두지 않고, 해제/만료되면 다시 선점할 수 있다")
+    void boundedSize() throws InterruptedException {
+        InMemoryNicknameReservationStore bounded = new InMemoryNicknameReservationStore(2);
+
+        assertThat(bounded.reserve("a", "x", TTL)).isTrue();
+        assertThat(bounded.reserve("b", "x", Duration.ofMillis(1))).isTrue();
+        // 가득 참: 선점 없이 통과
+        assertThat(bounded.reserve("c", "x", TTL)).isTrue();
+        assertThat(bounded.isHeldByOther("c", "y")).isFalse();
+        assertThat(bounded.size()).isEqualTo(2);
+
+        // 기존 선점 갱신은 크기를 늘리지 않는다
+        assertThat(bounded.reserve("a", "x", TTL)).isTrue();
+        assertThat(bounded.size()).isEqualTo(2);
+
+        Thread.sleep(10);
+        bounded.evictExpired();
+        assertThat(bounded.size()).isEqualTo(1);
+        assertThat(bounded.reserve("c", "x", TTL)).isTrue();
+        assertThat(bounded.isHeldByOther("c", "y")).isTrue();
+
+        bounded.release("a", "x");
+        assertThat(bounded.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 닉네임을 동시에 선점하면 한 nonce만 성공한다")
+    void concurrentReserveHasSingleWinner() throws Exception {
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String nonce = "nonce-" + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return store.reserve(NICKNAME, nonce, TTL);
+                }));
+            }
+            start.countDown();
+
+            int winners = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    winners++;
+                }
+            }
+            assertThat(winners).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.epik.domain.auth.availability;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NicknameReservationsTest {
+
+    private static final String CLIENT_IP = "203.0.113.10";
+
+    private final InMemoryNicknameReservationStore store = new InMemoryNicknameReservationStore(1000);
+    private final NicknameReservations reservations = new NicknameReservations(
+            store, true, Duration.ofMinutes(5), 3, Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("한 클라이언트가 nonce를 바꿔가며 확인해도 한도만큼만 선점되고, 다른 클라이언트는 영향받지 않는다")
+    void capsReservationsPerClient() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(reservations.tryReserve("squat" + i, "nonce-" + i, CLIENT_IP)).isTrue();
+        }
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(reservations.isHeldByOther("squat2", "other")).isTrue();
+        assertThat(reservations.isHeldByOther("squat3", "other")).isFalse();
+
+        // 한도를 넘긴 클라이언트도 다른 사람의 선점은 그대로 확인한다
+        assertThat(reservations.tryReserve("squat0", "other", CLIENT_IP)).isFalse();
+
+        assertThat(reservations.tryReserve("epik", "mine", "198.51.100.20")).isTrue();
+        assertThat(reservations.isHeldByOther("epik", "other")).isTrue();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 해제는 커밋 후에만 적용되고, 롤백되면 선점을 유지한다")
+    void releasesOnlyAfterCommit() {
+        reservations.tryReserve("epik", "mine", CLIENT_IP);
+
+        TransactionSynchronizationManager.initSynchronization();
+        reservations.releaseAfterCommit("epik", "mine");
+        assertThat(reservations.isHeldByOther("epik", "other")).isTrue();
+
+        // 롤백
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.clearSynchronization();
+        assertThat(reservations.isHeldByOther("epik", "other")).isTrue();
+
+        // 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        reservations.releaseAfterCommit("epik", "mine");
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertThat(reservations.isHeldByOther("epik", "other")).isFalse();
+    }
+}
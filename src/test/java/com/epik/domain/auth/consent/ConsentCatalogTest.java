@@ -0,0 +1,69 @@
+package com.epik.domain.auth.consent;
+
+import com.epik.domain.auth.entity.enums.ConsentItemCode;
+import com.epik.domain.auth.repository.ConsentItemRepository;
+import com.epik.global.exception.custom.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ConsentCatalogTest {
+
+    private final ConsentItemRepository consentItemRepository = mock(ConsentItemRepository.class);
+    private final ConsentCatalog consentCatalog = new ConsentCatalog(consentItemRepository);
+
+    @BeforeEach
+    void setUp() {
+        given(consentItemRepository.findVersion()).willReturn(version(0L));
+        given(consentItemRepository.findAllByIsActiveTrue()).willReturn(List.of());
+        consentCatalog.init();
+    }
+
+    @Test
+    @DisplayName("없는 코드는 한 번만 다시 읽고, 다음 변경 확인 전까지는 다시 읽지 않는다")
+    void cachesMissUntilNextVersionProbe() {
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> consentCatalog.get(ConsentItemCode.MARKETING))
+                    .isInstanceOf(BusinessException.class);
+        }
+        assertThatThrownBy(() -> consentCatalog.get(ConsentItemCode.LOCATION))
+                .isInstanceOf(BusinessException.class);
+
+        // 시작 시 1회 + 첫 miss 1회
+        verify(consentItemRepository, times(2)).findAllByIsActiveTrue();
+    }
+
+    @Test
+    @DisplayName("변경 확인에서 스냅샷이 바뀌면 없는 코드를 다시 한 번 읽는다")
+    void retriesMissAfterSnapshotChanges() {
+        assertThatThrownBy(() -> consentCatalog.get(ConsentItemCode.MARKETING))
+                .isInstanceOf(BusinessException.class);
+
+        // 버전이 같으면 스냅샷을 교체하지 않으므로 miss 캐시도 유지
+        consentCatalog.refreshIfChanged();
+        assertThatThrownBy(() -> consentCatalog.get(ConsentItemCode.MARKETING))
+                .isInstanceOf(BusinessException.class);
+        verify(consentItemRepository, times(2)).findAllByIsActiveTrue();
+
+        given(consentItemRepository.findVersion()).willReturn(version(1L));
+        consentCatalog.refreshIfChanged();
+        assertThatThrownBy(() -> consentCatalog.get(ConsentItemCode.MARKETING))
+                .isInstanceOf(BusinessException.class);
+
+        // 변경 감지 1회 + 교체 후 첫 miss 1회
+        verify(consentItemRepository, times(4)).findAllByIsActiveTrue();
+    }
+
+    private static ConsentCatalogVersion version(long count) {
+        return new ConsentCatalogVersion(count, count == 0 ? null : count, LocalDateTime.of(2026, 1, 1, 0, 0));
+    }
+}
@@ -0,0 +1,104 @@
+package com.epik.domain.auth.forbidden;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForbiddenWordMatcherTest {
+
+    @Test
+    @DisplayName("서로 겹치는 금칙어를 모두 찾는다")
+    void overlappingPatterns() {
+        ForbiddenWordMatcher matcher = ForbiddenWordMatcher.compile(List.of("he", "she", "his", "hers"));
+
+        assertThat(matcher.containsAny("ushers")).isTrue();
+        assertThat(matcher.containsAny("ahishe")).isTrue();
+        assertThat(matcher.containsAny("shhh")).isFalse();
+        assertThat(matcher.containsAny("hi")).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 금칙어의 접미사인 금칙어는 실패 링크를 따라가 찾는다")
+    void suffixPattern() {
+        ForbiddenWordMatcher matcher = ForbiddenWordMatcher.compile(List.of("abcd", "bc"));
+
+        // "abc"까지 긴 금칙어를 따라가다 끝나지만 접미사 "bc"가 포함되어 있다
+        assertThat(matcher.containsAny("xabcx")).isTrue();
+        assertThat(matcher.containsAny("abd")).isFalse();
+
+        ForbiddenWordMatcher nested = ForbiddenWordMatcher.compile(List.of("바보멍청이", "멍청"));
+        assertThat(nested.containsAny("바보멍청")).isTrue();
+        assertThat(nested.containsAny("바보멍")).isFalse();
+    }
+
+    @Test
+    @DisplayName("빈 사전은 어떤 텍스트에도 매칭되지 않고, 빈 문자열/null 금칙어는 무시한다")
+    void emptyDictionary() {
+        ForbiddenWordMatcher empty = ForbiddenWordMatcher.empty();
+        assertThat(empty.containsAny("anything")).isFalse();
+        assertThat(empty.containsAny("")).isFalse();
+        assertThat(empty.wordCount()).isZero();
+        assertThat(empty.stateCount()).isEqualTo(1);
+
+        ForbiddenWordMatcher blanks = ForbiddenWordMatcher.compile(Arrays.asList("", null));
+        assertThat(blanks.containsAny("anything")).isFalse();
+        assertThat(blanks.wordCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("[from, to) 구간만 검사한다")
+    void containsAnyInRange() {
+        ForbiddenWordMatcher matcher = ForbiddenWordMatcher.compile(List.of("bad"));
+        char[] text = "xxbadxx".toCharArray();
+
+        assertThat(matcher.containsAny(text, 0, text.length)).isTrue();
+        assertThat(matcher.containsAny(text, 3, text.length)).isFalse();
+        assertThat(matcher.containsAny("xxbadxx", 0, 4)).isFalse();
+    }
+
+    @Test
+    @DisplayName("무작위 사전/텍스트에서 기존 contains 반복 검사와 결과가 같다")
+    void agreesWithContainsLoop() {
+        Random random = new Random(42);
+        char[] alphabet = {'a', 'b', 'c', '가', '나'};
+
+        for (int round = 0; round < 500; round++) {
+            List<String> words = new ArrayList<>();
+            int wordCount = random.nextInt(6);
+            for (int i = 0; i < wordCount; i++) {
+                words.add(randomString(random, alphabet, 1 + random.nextInt(4)));
+            }
+            ForbiddenWordMatcher matcher = ForbiddenWordMatcher.compile(words);
+
+            for (int i = 0; i < 20; i++) {
+                String text = randomString(random, alphabet, random.nextInt(12));
+                assertThat(matcher.containsAny(text))
+                        .as("words=%s, text=%s", words, text)
+                        .isEqualTo(containsLoop(words, text));
+            }
+        }
+    }
+
+    private static boolean containsLoop(List<String> words, String text) {
+        for (String word : words) {
+            if (text.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String randomString(Random random, char[] alphabet, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet[random.nextInt(alphabet.length)]);
+        }
+        return sb.toString();
+    }
+}
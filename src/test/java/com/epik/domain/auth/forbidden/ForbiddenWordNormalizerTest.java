@@ -0,0 +1,132 @@
+package com.epik.domain.auth.forbidden;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForbiddenWordNormalizerTest {
+
+    private final ForbiddenWordNormalizer decomposing = new ForbiddenWordNormalizer(true);
+    private final ForbiddenWordNormalizer composing = new ForbiddenWordNormalizer(false);
+
+    @Test
+    @DisplayName("자모 분해: 음절을 호환 자모로 나누고 초성/종성의 같은 자음은 같은 문자가 된다")
+    void decomposesSyllablesIntoCompatibilityJamo() {
+        assertThat(decomposing.normalize("시발")).isEqualTo("ㅅㅣㅂㅏㄹ");
+        assertThat(decomposing.normalize("닭")).isEqualTo("ㄷㅏㄺ");
+        // 받침 ㅅ과 다음 음절의 초성 ㅅ이 같은 문자로 분해된다
+        assertThat(decomposing.normalize("옷사")).isEqualTo("ㅇㅗㅅㅅㅏ");
+    }
+
+    @Test
+    @DisplayName("자모 분해: 낱자로 쪼개 입력하거나 구분자를 끼워도 금칙어를 찾는다")
+    void decomposingMatchesSplitJamo() {
+        ForbiddenWordMatcher matcher = compile(decomposing, "시발", "닭");
+
+        assertThat(decomposing.containsForbiddenWord(matcher, "ㅅㅣ발놈")).isTrue();
+        assertThat(decomposing.containsForbiddenWord(matcher, "ㅅ ㅣ.발")).isTrue();
+        assertThat(decomposing.containsForbiddenWord(matcher, "ㄷㅏㄺ갈비")).isTrue();
+        assertThat(decomposing.containsForbiddenWord(matcher, "시바견")).isFalse();
+    }
+
+    @Test
+    @DisplayName("자모 분해를 끄면 구분자 제거로 이어진 낱자를 음절로 다시 합친다")
+    void composingRejoinsSplitJamo() {
+        assertThat(composing.normalize("ㅅ ㅣ발")).isEqualTo("시발");
+
+        ForbiddenWordMatcher matcher = compile(composing, "시발");
+        assertThat(composing.containsForbiddenWord(matcher, "ㅅ ㅣ발")).isTrue();
+        assertThat(composing.containsForbiddenWord(matcher, "시_발")).isTrue();
+        assertThat(composing.containsForbiddenWord(matcher, "시바")).isFalse();
+    }
+
+    @Test
+    @DisplayName("호환 문자(전각/반각/원문자)는 NFKC로 일반 문자가 된다")
+    void normalizesCompatibilityForms() {
+        assertThat(composing.normalize("ＢＡＤ")).isEqualTo("bad");
+        assertThat(composing.normalize("ｂａｄ")).isEqualTo("bad");
+        // 반각 한글 자모 → 음절
+        assertThat(composing.normalize("ﾵￜﾲￂ")).isEqualTo("시바");
+
+        ForbiddenWordMatcher matcher = compile(composing, "bad");
+        assertThat(composing.containsForbiddenWord(matcher, "ｉａｍＢＡＤ")).isTrue();
+        assertThat(composing.containsForbiddenWord(matcher, "ⓑⓐⓓ")).isTrue();
+    }
+
+    @Test
+    @DisplayName("닮은꼴 문자, 대문자, 숫자 치환과 구분자 제거")
+    void normalizesConfusablesAndSeparators() {
+        // 키릴 а, 그리스 Ο, 숫자 0/1
+        assertThat(composing.normalize("bаd")).isEqualTo("bad");
+        assertThat(composing.normalize("ΟK")).isEqualTo("ok");
+        assertThat(composing.normalize("F0O")).isEqualTo("foo");
+        assertThat(composing.normalize("b a-d​")).isEqualTo("bad");
+        assertThat(composing.normalize(" .,-")).isEqualTo("");
+    }
+
+    @Test
+    @DisplayName("i/l 계열은 대소문자, 숫자, 기호, 그리스/키릴 문자 구분 없이 한 문자로 모인다")
+    void collapsesIAndLLookalikes() {
+        for (String lookalike : List.of("i", "I", "l", "L", "1", "!", "|", "ı", "Ι", "ι", "І", "і")) {
+            assertThat(composing.normalize("b" + lookalike + "t")).as("lookalike=%s", lookalike).isEqualTo("blt");
+        }
+    }
+
+    @Test
+    @DisplayName("대문자나 숫자로 바꿔 써도 i가 들어간 금칙어를 찾고, 숫자 금칙어는 숫자로만 비교한다")
+    void matchesIWordsAndKeepsNumericWordsLiteral() {
+        for (ForbiddenWordNormalizer normalizer : List.of(decomposing, composing)) {
+            ForbiddenWordMatcher[] matchers = compileSplit(normalizer, "bitch", "18");
+            ForbiddenWordMatcher matcher = matchers[0];
+            ForbiddenWordMatcher numericMatcher = matchers[1];
+
+            assertThat(normalizer.containsForbiddenWord(matcher, numericMatcher, "BITCH")).isTrue();
+            assertThat(normalizer.containsForbiddenWord(matcher, numericMatcher, "b1tch")).isTrue();
+            assertThat(normalizer.containsForbiddenWord(matcher, numericMatcher, "b!tch")).isTrue();
+            assertThat(normalizer.containsForbiddenWord(matcher, numericMatcher, "user18")).isTrue();
+            assertThat(normalizer.containsForbiddenWord(matcher, numericMatcher, "１8")).isTrue();
+
+            // 숫자 금칙어 18을 lb로 바꾸지 않으므로 평범한 닉네임은 걸리지 않는다
+            assertThat(normalizer.containsForbiddenWord(matcher, numericMatcher, "Albert")).isFalse();
+            assertThat(normalizer.containsForbiddenWord(matcher, numericMatcher, "ilbe")).isFalse();
+        }
+
+        assertThat(composing.normalize("18")).isEqualTo("18");
+        assertThat(composing.normalize("1 8")).isEqualTo("18");
+        assertThat(ForbiddenWordNormalizer.isNumeric(composing.normalize("18"))).isTrue();
+        assertThat(ForbiddenWordNormalizer.isNumeric(composing.normalize("b1tch"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("목록 정규화(normalize)와 닉네임 검사(containsForbiddenWord)가 같은 결과를 낸다")
+    void normalizeAgreesWithContainsForbiddenWord() {
+        List<String> nicknames = List.of("ＢＡＤ사람", "ㅅ ㅣ발", "닭다리", "평범한닉네임", "b@d");
+        for (ForbiddenWordNormalizer normalizer : List.of(decomposing, composing)) {
+            ForbiddenWordMatcher matcher = compile(normalizer, "bad", "시발", "닭");
+            for (String nickname : nicknames) {
+                boolean expected = matcher.containsAny(normalizer.normalize(nickname));
+                assertThat(normalizer.containsForbiddenWord(matcher, nickname))
+                        .as("nickname=%s", nickname)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    /**
+     * ForbiddenWordIndex처럼 숫자 금칙어를 나눠서 컴파일한다. [0] = 일반, [1] = 숫자
+     */
+    private static ForbiddenWordMatcher[] compileSplit(ForbiddenWordNormalizer normalizer, String... words) {
+        List<String> normalized = List.of(words).stream().map(normalizer::normalize).toList();
+        return new ForbiddenWordMatcher[]{
+                ForbiddenWordMatcher.compile(normalized.stream().filter(w -> !ForbiddenWordNormalizer.isNumeric(w)).toList()),
+                ForbiddenWordMatcher.compile(normalized.stream().filter(ForbiddenWordNormalizer::isNumeric).toList())
+        };
+    }
+
+    private static ForbiddenWordMatcher compile(ForbiddenWordNormalizer normalizer, String... words) {
+        return ForbiddenWordMatcher.compile(List.of(words).stream().map(normalizer::normalize).toList());
+    }
+}
@@ -0,0 +1,163 @@
+package com.epik.domain.auth.service;
+
+import com.epik.domain.auth.availability.NicknameReservations;
+import com.epik.domain.auth.availability.UserIdentifierFilter;
+import com.epik.domain.auth.consent.ConsentCatalog;
+import com.epik.domain.auth.dto.response.TokenResponse;
+import com.epik.domain.auth.entity.User;
+import com.epik.domain.auth.forbidden.ForbiddenWordIndex;
+import com.epik.domain.auth.repository.ConsentItemRepository;
+import com.epik.domain.auth.repository.UserConsentRepository;
+import com.epik.domain.auth.repository.UserRepository;
+import com.epik.domain.auth.throttle.LoginThrottle;
+import com.epik.domain.auth.token.RefreshTokenRepository;
+import com.epik.global.security.password.OffloadingPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로그인 시 비밀번호 재해싱 (rehashPasswordIfNeeded)
+ */
+class AuthServiceRehashTest {
+
+    private static final String EMAIL = "user@epik.com";
+    private static final String RAW_PASSWORD = "Passw0rd!";
+    private static final String OLD_HASH = "{bcrypt}old-hash";
+    private static final String NEW_HASH = "{bcrypt}new-hash";
+    private static final String CLIENT_IP = "127.0.0.1";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TokenService tokenService = mock(TokenService.class);
+    private final TokenResponse tokenResponse = new TokenResponse("access", "refresh");
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.createEmailUser(EMAIL, OLD_HASH, "epik");
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(userRepository.findByEmail(EMAIL)).willReturn(Optional.of(user));
+        given(tokenService.createTokenResponseFrom(user)).willReturn(tokenResponse);
+    }
+
+    @Test
+    @DisplayName("cost가 바뀐 해시는 로그인 시 그사이 비밀번호가 바뀌지 않았을 때만 교체한다")
+    void rehashesWithCompareAndSet() {
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        given(passwordEncoder.matches(RAW_PASSWORD, OLD_HASH)).willReturn(true);
+        given(passwordEncoder.upgradeEncoding(OLD_HASH)).willReturn(true);
+        given(passwordEncoder.encode(RAW_PASSWORD)).willReturn(NEW_HASH);
+        given(userRepository.updatePasswordIfUnchanged(1L, OLD_HASH, NEW_HASH)).willReturn(1);
+
+        TokenResponse response = authService(passwordEncoder).login(EMAIL, RAW_PASSWORD, CLIENT_IP);
+
+        assertThat(response).isSameAs(tokenResponse);
+        verify(userRepository).updatePasswordIfUnchanged(1L, OLD_HASH, NEW_HASH);
+    }
+
+    @Test
+    @DisplayName("그사이 비밀번호가 바뀌어 교체하지 못해도 로그인은 성공한다")
+    void lostCompareAndSetDoesNotFailLogin() {
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        given(passwordEncoder.matches(RAW_PASSWORD, OLD_HASH)).willReturn(true);
+        given(passwordEncoder.upgradeEncoding(OLD_HASH)).willReturn(true);
+        given(passwordEncoder.encode(RAW_PASSWORD)).willReturn(NEW_HASH);
+        given(userRepository.updatePasswordIfUnchanged(1L, OLD_HASH, NEW_HASH)).willReturn(0);
+
+        TokenResponse response = authService(passwordEncoder).login(EMAIL, RAW_PASSWORD, CLIENT_IP);
+
+        assertThat(response).isSameAs(tokenResponse);
+    }
+
+    @Test
+    @DisplayName("현재 설정과 같은 해시는 다시 해싱하지 않는다")
+    void skipsUpToDateHash() {
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        given(passwordEncoder.matches(RAW_PASSWORD, OLD_HASH)).willReturn(true);
+        given(passwordEncoder.upgradeEncoding(OLD_HASH)).willReturn(false);
+
+        authService(passwordEncoder).login(EMAIL, RAW_PASSWORD, CLIENT_IP);
+
+        verify(passwordEncoder, never()).encode(any());
+        verify(userRepository, never()).updatePasswordIfUnchanged(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("해싱 스레드 풀이 포화되어 재해싱이 거절되면 다음 로그인으로 미루고 로그인은 성공한다")
+    void saturatedPoolDefersRehash() {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder stalling = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                // 하나뿐인 해싱 스레드를 timeout보다 오래 붙잡는다
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return NEW_HASH;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return true;
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OffloadingPasswordEncoder passwordEncoder = new OffloadingPasswordEncoder(stalling, 1, 1,
+                Duration.ofMillis(100), Duration.ofSeconds(1), meterRegistry);
+
+        try {
+            TokenResponse response = authService(passwordEncoder).login(EMAIL, RAW_PASSWORD, CLIENT_IP);
+
+            assertThat(response).isSameAs(tokenResponse);
+            verify(userRepository, never()).updatePasswordIfUnchanged(anyLong(), anyString(), anyString());
+            // 재해싱은 RetryLaterException으로 거절되었다
+            assertThat(meterRegistry.get("auth.password_hashing.rejected").counter().count()).isEqualTo(1.0);
+        } finally {
+            release.countDown();
+            passwordEncoder.destroy();
+        }
+    }
+
+    private AuthService authService(PasswordEncoder passwordEncoder) {
+        return new AuthService(
+                userRepository,
+                mock(ForbiddenWordIndex.class),
+                passwordEncoder,
+                mock(ConsentItemRepository.class),
+                mock(UserConsentRepository.class),
+                mock(ConsentCatalog.class),
+                tokenService,
+                mock(RefreshTokenRepository.class),
+                mock(UserIdentifierFilter.class),
+                mock(NicknameReservations.class),
+                mock(LoginThrottle.class),
+                mock(TransactionTemplate.class)
+        );
+    }
+}
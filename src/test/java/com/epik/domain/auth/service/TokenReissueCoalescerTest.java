@@ -0,0 +1,130 @@
+package com.epik.domain.auth.service;
+
+import com.epik.domain.auth.dto.response.TokenResponse;
+import com.epik.global.exception.ErrorCode;
+import com.epik.global.exception.custom.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenReissueCoalescerTest {
+
+    private static final String REFRESH_TOKEN = "refresh-token";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("같은 토큰으로 동시에 들어온 재발급은 한 번만 실행되고 모두 같은 토큰 쌍을 받는다")
+    void concurrentReissuesShareOneResult() throws Exception {
+        TokenReissueCoalescer coalescer = new TokenReissueCoalescer(meterRegistry, Duration.ofSeconds(10));
+        int threads = 8;
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<TokenResponse>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> coalescer.execute(REFRESH_TOKEN, () -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return new TokenResponse("access", "refresh");
+                })));
+            }
+
+            // 대표 요청을 제외한 나머지가 모두 진행 중인 재발급을 기다릴 때까지 대기
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalesced() < threads - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            TokenResponse first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<TokenResponse> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+            assertThat(calls.get()).isEqualTo(1);
+            assertThat(coalesced()).isEqualTo(threads - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("grace 기간 안에는 직전 토큰에 같은 결과를 주고, 지나면 다시 재발급한다")
+    void graceWindowEnds() throws Exception {
+        TokenReissueCoalescer coalescer = new TokenReissueCoalescer(meterRegistry, Duration.ofMillis(100));
+        AtomicInteger calls = new AtomicInteger();
+
+        TokenResponse first = coalescer.execute(REFRESH_TOKEN, () -> response(calls));
+        TokenResponse withinGrace = coalescer.execute(REFRESH_TOKEN, () -> response(calls));
+
+        assertThat(withinGrace).isSameAs(first);
+        assertThat(calls.get()).isEqualTo(1);
+
+        Thread.sleep(200);
+
+        TokenResponse afterGrace = coalescer.execute(REFRESH_TOKEN, () -> response(calls));
+        assertThat(afterGrace).isNotSameAs(first);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("만료된 결과는 정리 작업에서 제거된다")
+    void evictsExpiredResults() throws Exception {
+        TokenReissueCoalescer coalescer = new TokenReissueCoalescer(meterRegistry, Duration.ofMillis(50));
+        AtomicInteger calls = new AtomicInteger();
+
+        coalescer.execute(REFRESH_TOKEN, () -> response(calls));
+        Thread.sleep(100);
+        coalescer.evictExpired();
+
+        coalescer.execute(REFRESH_TOKEN, () -> response(calls));
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재발급이 실패하면 결과를 남기지 않아 다음 요청이 다시 실행한다")
+    void failureIsNotCached() {
+        TokenReissueCoalescer coalescer = new TokenReissueCoalescer(meterRegistry, Duration.ofSeconds(10));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> coalescer.execute(REFRESH_TOKEN, () -> {
+            calls.incrementAndGet();
+            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+        })).isInstanceOf(BusinessException.class);
+
+        coalescer.execute(REFRESH_TOKEN, () -> response(calls));
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    private double coalesced() {
+        return meterRegistry.get("auth.refresh.coalesced").functionCounter().count();
+    }
+
+    private static TokenResponse response(AtomicInteger calls) {
+        int n = calls.incrementAndGet();
+        return new TokenResponse("access-" + n, "refresh-" + n);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.epik.domain.auth.throttle;
+
+import com.epik.global.exception.custom.LoginThrottledException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+    private static final String VICTIM = "victim@epik.com";
+    private static final String ATTACKER_IP = "203.0.113.10";
+    private static final String VICTIM_IP = "198.51.100.20";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("한 IP가 남의 이메일로 로그인을 퍼부어도 다른 IP의 계정 주인은 로그인할 수 있다")
+    void floodFromOneIpDoesNotBlockOwner() {
+        LoginThrottle throttle = throttle(new LoginThrottleProperties.Limit(100, Duration.ofSeconds(1)));
+
+        int rejected = 0;
+        for (int i = 0; i < 50; i++) {
+            try {
+                throttle.checkAllowed(ATTACKER_IP, VICTIM);
+                throttle.recordFailure(ATTACKER_IP, VICTIM);
+            } catch (LoginThrottledException e) {
+                rejected++;
+            }
+        }
+        assertThat(rejected).isGreaterThan(0);
+
+        assertThatCode(() -> throttle.checkAllowed(VICTIM_IP, VICTIM)).doesNotThrowAnyException();
+        throttle.recordSuccess(VICTIM_IP, VICTIM);
+        assertThat(rejections("email")).isEqualTo(rejected);
+        assertThat(rejections("account")).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 IP로 분산된 시도는 이메일 전체 제한(account)에 걸린다")
+    void distributedAttemptsHitAccountLimit() {
+        LoginThrottle throttle = throttle(new LoginThrottleProperties.Limit(10, Duration.ofSeconds(10)));
+
+        for (int i = 0; i < 10; i++) {
+            throttle.checkAllowed("203.0.113." + i, VICTIM);
+        }
+        assertThatThrownBy(() -> throttle.checkAllowed(VICTIM_IP, VICTIM))
+                .isInstanceOf(LoginThrottledException.class);
+        assertThat(rejections("account")).isEqualTo(1.0);
+    }
+
+    private LoginThrottle throttle(LoginThrottleProperties.Limit account) {
+        LoginThrottleProperties properties = new LoginThrottleProperties(
+                true,
+                new LoginThrottleProperties.Limit(1000, Duration.ofMillis(1)),
+                new LoginThrottleProperties.Limit(5, Duration.ofSeconds(12)),
+                account,
+                new LoginThrottleProperties.Lockout(10, Duration.ofMinutes(15), Duration.ofMinutes(15), false));
+        return new LoginThrottle(properties, new ObjectMapper(), meterRegistry);
+    }
+
+    private double rejections(String scope) {
+        return meterRegistry.get("auth.login_throttle.rejected").tag("scope", scope).counter().count();
+    }
+}
@@ -0,0 +1,129 @@
+package com.epik.domain.auth.throttle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTableTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+    private static final Duration TICK = Duration.ofSeconds(1);
+    private static final String KEY = "user@epik.com";
+
+    // nanoTime은 음수일 수도 있으므로 임의의 기준 시각에서 시작
+    private final long start = -123 * SECOND;
+
+    @Test
+    @DisplayName("capacity만큼 연속으로 허용하고, 그다음은 토큰 1개가 회복될 때까지 기다리게 한다")
+    void allowsBurstUpToCapacityThenRefills() {
+        TokenBucketTable table = new TokenBucketTable(3, Duration.ofSeconds(2), TICK, start);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(table.tryAcquire(KEY, start)).isZero();
+        }
+        assertThat(table.tryAcquire(KEY, start)).isEqualTo(2 * SECOND);
+
+        // 1초 뒤에는 아직 1초 남음
+        assertThat(table.tryAcquire(KEY, start + SECOND)).isEqualTo(SECOND);
+        // 2초 뒤에는 1개만 회복
+        assertThat(table.tryAcquire(KEY, start + 2 * SECOND)).isZero();
+        assertThat(table.tryAcquire(KEY, start + 2 * SECOND)).isGreaterThan(0L);
+    }
+
+    @Test
+    @DisplayName("충분히 쉬어도 capacity보다 많이 모아두지 않는다")
+    void doesNotAccumulateBeyondCapacity() {
+        TokenBucketTable table = new TokenBucketTable(2, Duration.ofSeconds(1), TICK, start);
+        long later = start + 100 * SECOND;
+
+        assertThat(table.tryAcquire(KEY, later)).isZero();
+        assertThat(table.tryAcquire(KEY, later)).isZero();
+        assertThat(table.tryAcquire(KEY, later)).isGreaterThan(0L);
+    }
+
+    @Test
+    @DisplayName("키마다 버킷이 따로 있다")
+    void bucketsArePerKey() {
+        TokenBucketTable table = new TokenBucketTable(1, Duration.ofSeconds(10), TICK, start);
+
+        assertThat(table.tryAcquire("a", start)).isZero();
+        assertThat(table.tryAcquire("a", start)).isGreaterThan(0L);
+        assertThat(table.tryAcquire("b", start)).isZero();
+        assertThat(table.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("failureWindow 안에 maxFailures번 실패하면 lockDuration 동안 잠근다")
+    void locksAfterMaxFailures() {
+        TokenBucketTable table = new TokenBucketTable(100, Duration.ofSeconds(1), TICK, start);
+        Duration window = Duration.ofMinutes(15);
+        Duration lock = Duration.ofMinutes(15);
+
+        assertThat(table.recordFailure(KEY, start, 3, window, lock)).isFalse();
+        assertThat(table.recordFailure(KEY, start + SECOND, 3, window, lock)).isFalse();
+        assertThat(table.lockedFor(KEY, start + SECOND)).isZero();
+        assertThat(table.recordFailure(KEY, start + 2 * SECOND, 3, window, lock)).isTrue();
+
+        long lockedAt = start + 2 * SECOND;
+        assertThat(table.lockedFor(KEY, lockedAt)).isEqualTo(lock.toNanos());
+        assertThat(table.tryAcquire(KEY, lockedAt + SECOND)).isEqualTo(lock.toNanos() - SECOND);
+
+        long unlockedAt = lockedAt + lock.toNanos();
+        assertThat(table.lockedFor(KEY, unlockedAt)).isZero();
+        assertThat(table.tryAcquire(KEY, unlockedAt)).isZero();
+    }
+
+    @Test
+    @DisplayName("마지막 실패 후 failureWindow가 지나거나 성공하면 실패 횟수가 초기화된다")
+    void failuresResetAfterWindowOrSuccess() {
+        TokenBucketTable table = new TokenBucketTable(100, Duration.ofSeconds(1), TICK, start);
+        Duration window = Duration.ofSeconds(10);
+        Duration lock = Duration.ofMinutes(15);
+
+        table.recordFailure(KEY, start, 2, window, lock);
+        // window가 지난 뒤의 실패는 1회째
+        assertThat(table.recordFailure(KEY, start + 11 * SECOND, 2, window, lock)).isFalse();
+
+        table.resetFailures(KEY);
+        assertThat(table.recordFailure(KEY, start + 12 * SECOND, 2, window, lock)).isFalse();
+        assertThat(table.recordFailure(KEY, start + 13 * SECOND, 2, window, lock)).isTrue();
+    }
+
+    @Test
+    @DisplayName("잠금 확인은 기록이 없는 키를 만들지 않는다")
+    void lockedForDoesNotCreateKeys() {
+        TokenBucketTable table = new TokenBucketTable(1, Duration.ofSeconds(1), TICK, start);
+
+        assertThat(table.lockedFor("unknown", start)).isZero();
+        assertThat(table.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("sweep은 버킷이 가득 차고 잠금/실패 기록이 만료된 키만 제거한다")
+    void sweepRemovesOnlyIdleKeys() {
+        TokenBucketTable table = new TokenBucketTable(2, Duration.ofSeconds(5), TICK, start);
+
+        table.tryAcquire("rate", start);
+        table.recordFailure("locked", start, 1, Duration.ofSeconds(1), Duration.ofMinutes(10));
+        assertThat(table.size()).isEqualTo(2);
+
+        // 5초 뒤 rate 버킷은 가득 찼지만 locked는 잠금 중
+        assertThat(table.sweep(start + 6 * SECOND)).isEqualTo(1);
+        assertThat(table.size()).isEqualTo(1);
+        assertThat(table.lockedFor("locked", start + 6 * SECOND)).isGreaterThan(0L);
+
+        // 휠 한 바퀴(64초)보다 먼 잠금도 다시 등록되었다가 만료 후 제거된다
+        long now = start + 6 * SECOND;
+        long end = start + Duration.ofMinutes(10).toNanos() + 2 * SECOND;
+        int removed = 0;
+        while (now < end) {
+            now += SECOND;
+            removed += table.sweep(now);
+        }
+        assertThat(removed).isEqualTo(1);
+        assertThat(table.size()).isZero();
+    }
+}
@@ -0,0 +1,97 @@
+package com.epik.domain.auth.token;
+
+import com.epik.domain.auth.entity.User;
+import com.epik.domain.auth.repository.UserRepository;
+import com.epik.global.exception.ErrorCode;
+import com.epik.global.exception.custom.BusinessException;
+import com.epik.support.JpaSliceTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@JpaSliceTest
+@Import(RefreshTokenService.class)
+@TestPropertySource(properties = {
+        "jwt.refresh-token.reuse-grace-period=0s",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RefreshTokenTombstoneRepository refreshTokenTombstoneRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("재발급은 토큰과 사용자를 한 번의 SELECT로 조회한다")
+    void rotateLoadsTokenAndUserInOneQuery() {
+        User user = userRepository.save(User.createEmailUser("rotate@epik.com", "encoded", "rotate"));
+        String token = refreshTokenService.issue(user);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        RotatedRefreshToken rotated = refreshTokenService.rotate(token);
+
+        assertThat(rotated.role()).isEqualTo(user.getRole());
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        // 사용자는 JOIN FETCH로 함께 로드되어 지연 로딩 SELECT가 없다
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("두 세대 전에 교체된 토큰이 들어와도 재사용으로 보고 family를 폐기한다")
+    void revokesFamilyOnReuseOfOlderGeneration() {
+        User user = userRepository.save(User.createEmailUser("reuse@epik.com", "encoded", "reuse"));
+
+        String first = refreshTokenService.issue(user);
+        String second = refreshTokenService.rotate(first).refreshToken();
+        String third = refreshTokenService.rotate(second).refreshToken();
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(first))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+
+        // family가 폐기되어 최신 토큰도 더 이상 쓸 수 없다
+        assertThatThrownBy(() -> refreshTokenService.rotate(third))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+        assertThat(refreshTokenRepository.findAllByUserIdOrderByExpiresAtAsc(user.getId())).isEmpty();
+        assertThat(refreshTokenTombstoneRepository.findByTokenHash(RefreshTokens.hash(second))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("교체된 적 없는 토큰은 family를 건드리지 않고 거부한다")
+    void rejectsUnknownTokenWithoutRevoking() {
+        User user = userRepository.save(User.createEmailUser("unknown@epik.com", "encoded", "unknown"));
+        String token = refreshTokenService.issue(user);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(RefreshTokens.generate()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+
+        assertThat(refreshTokenService.rotate(token).userId()).isEqualTo(user.getId());
+    }
+}
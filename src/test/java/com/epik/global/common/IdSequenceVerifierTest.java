@@ -0,0 +1,65 @@
+package com.epik.global.common;
+
+import com.epik.support.JpaSliceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@JpaSliceTest
+@Import(IdSequenceVerifier.class)
+class IdSequenceVerifierTest {
+
+    @Autowired
+    private IdSequenceVerifier idSequenceVerifier;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("기존 id가 있는데 시퀀스 행이 없으면 시작에 실패한다")
+    void failsWhenSequenceRowIsMissing() {
+        insertUser(100L);
+
+        assertThatThrownBy(() -> idSequenceVerifier.afterSingletonsInstantiated())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("users: 행 없음");
+    }
+
+    @Test
+    @DisplayName("next_val이 MAX(id) + 할당 크기보다 작으면 시작에 실패한다")
+    void failsWhenSequenceIsBehind() {
+        insertUser(100L);
+        insertSequence("users", 120L);
+
+        assertThatThrownBy(() -> idSequenceVerifier.afterSingletonsInstantiated())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("users: next_val=120");
+    }
+
+    @Test
+    @DisplayName("빈 테이블이거나 next_val이 충분히 앞서 있으면 통과한다")
+    void passesWhenSequencesAreAhead() {
+        assertThatCode(() -> idSequenceVerifier.afterSingletonsInstantiated()).doesNotThrowAnyException();
+
+        insertUser(100L);
+        insertSequence("users", 100L + IdGenerators.ALLOCATION_SIZE);
+
+        assertThatCode(() -> idSequenceVerifier.afterSingletonsInstantiated()).doesNotThrowAnyException();
+    }
+
+    private void insertUser(long id) {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, nickname, join_type, status, role, created_at)
+                VALUES (?, ?, ?, 'EMAIL', 'ACTIVE', 'ROLE_USER', CURRENT_TIMESTAMP)
+                """, id, "user" + id + "@epik.com", "user" + id);
+    }
+
+    private void insertSequence(String name, long nextVal) {
+        jdbcTemplate.update("INSERT INTO id_sequences (sequence_name, next_val) VALUES (?, ?)", name, nextVal);
+    }
+}
@@ -0,0 +1,95 @@
+package com.epik.global.config;
+
+import com.epik.domain.auth.controller.AuthController;
+import com.epik.domain.auth.entity.enums.UserRole;
+import com.epik.domain.auth.service.AuthService;
+import com.epik.domain.auth.service.TokenService;
+import com.epik.global.security.filter.JwtAuthenticationFilter;
+import com.epik.global.security.jwt.AccessTokenCache;
+import com.epik.global.security.jwt.AuthenticatedPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * EpikApplication의 @EnableFeignClients를 피하기 위해 필요한 빈만 올린다.
+ */
+@WebMvcTest
+@ContextConfiguration(classes = {SecurityConfig.class, JwtAuthenticationFilter.class, AuthController.class})
+class SecurityConfigTest {
+
+    private static final String USER_TOKEN = "user-token";
+    private static final String ADMIN_TOKEN = "admin-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AuthService authService;
+
+    @MockitoBean
+    private TokenService tokenService;
+
+    @MockitoBean
+    private AccessTokenCache accessTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        Instant expiresAt = Instant.now().plusSeconds(1800);
+        given(accessTokenCache.getOrVerify(USER_TOKEN))
+                .willReturn(new AuthenticatedPrincipal(1L, UserRole.ROLE_USER, expiresAt, "user-jti"));
+        given(accessTokenCache.getOrVerify(ADMIN_TOKEN))
+                .willReturn(new AuthenticatedPrincipal(2L, UserRole.ROLE_ADMIN, expiresAt, "admin-jti"));
+    }
+
+    @Test
+    @DisplayName("일괄 중복 확인은 ROLE_USER 토큰이면 403")
+    void batchAvailabilityForbiddenForUser() throws Exception {
+        mockMvc.perform(batchRequest().header("Authorization", "Bearer " + USER_TOKEN))
+                .andExpect(status().isForbidden());
+
+        verify(authService, never()).checkAvailabilityBatch(any());
+    }
+
+    @Test
+    @DisplayName("일괄 중복 확인은 토큰이 없으면 거부된다")
+    void batchAvailabilityForbiddenForAnonymous() throws Exception {
+        mockMvc.perform(batchRequest())
+                .andExpect(status().isForbidden());
+
+        verify(authService, never()).checkAvailabilityBatch(any());
+    }
+
+    @Test
+    @DisplayName("일괄 중복 확인은 ROLE_ADMIN 토큰이면 허용된다")
+    void batchAvailabilityAllowedForAdmin() throws Exception {
+        mockMvc.perform(batchRequest().header("Authorization", "Bearer " + ADMIN_TOKEN))
+                .andExpect(status().isOk());
+
+        verify(authService).checkAvailabilityBatch(any());
+    }
+
+    private static MockHttpServletRequestBuilder batchRequest() {
+        return post("/api/v1/auth/availability/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"emails": ["new@epik.com"], "nicknames": ["새닉네임"]}
+                        """);
+    }
+}
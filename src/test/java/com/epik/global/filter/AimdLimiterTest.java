@@ -0,0 +1,109 @@
+package com.epik.global.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AimdLimiterTest {
+
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+    private static final long THRESHOLD_NANOS = THRESHOLD.toNanos();
+
+    @Test
+    @DisplayName("한도를 충분히 쓰는 상태에서 빠른 응답이 이어지면 한도가 조금씩 오르고 maxLimit에서 멈춘다")
+    void fastSamplesUnderLoadIncreaseLimit() {
+        AimdLimiter limiter = new AimdLimiter(10, 2, 12, THRESHOLD, 0.5);
+
+        // 한도만큼 채웠다가 모두 빠르게 끝내기를 반복 (한 바퀴에 약 +0.5)
+        for (int round = 0; round < 3; round++) {
+            saturateAndReleaseFast(limiter);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(11);
+
+        for (int round = 0; round < 20; round++) {
+            saturateAndReleaseFast(limiter);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(12);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("한도의 절반도 쓰지 않을 때의 빠른 응답은 한도를 올리지 않는다")
+    void fastSamplesWhileIdleKeepLimit() {
+        AimdLimiter limiter = new AimdLimiter(10, 2, 100, THRESHOLD, 0.5);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+            limiter.release(System.nanoTime());
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("느린 응답은 한도를 backoffRatio배로 줄이되, 같은 지연 구간의 요청들은 한 번만 줄인다")
+    void slowSamplesDecreaseOncePerEpisode() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter(16, 2, 100, THRESHOLD, 0.5);
+        Thread.sleep(3 * THRESHOLD.toMillis());
+
+        // 같은 시각에 시작해서 모두 느리게 끝난 요청 4개
+        long startedAt = System.nanoTime() - 2 * THRESHOLD_NANOS;
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        for (int i = 0; i < 4; i++) {
+            limiter.release(startedAt);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(8);
+
+        // 감소 이후에 시작된 요청이 또 느리면 다시 줄인다
+        Thread.sleep(1);
+        long startedAfterDecrease = System.nanoTime();
+        Thread.sleep(2 * THRESHOLD.toMillis());
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.release(startedAfterDecrease);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("한도는 minLimit 아래로 내려가지 않고, 한도에 도달하면 tryAcquire가 거절한다")
+    void limitFloorsAtMinAndRejectsBeyondLimit() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter(4, 2, 100, THRESHOLD, 0.5);
+
+        for (int i = 0; i < 5; i++) {
+            long startedAt = System.nanoTime();
+            Thread.sleep(2 * THRESHOLD.toMillis());
+            assertThat(limiter.tryAcquire()).isTrue();
+            limiter.release(startedAt);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("잘못된 한도/감소 비율은 생성 시 거절한다")
+    void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> new AimdLimiter(1, 2, 10, THRESHOLD, 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AimdLimiter(5, 2, 10, THRESHOLD, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void saturateAndReleaseFast(AimdLimiter limiter) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(startedAt);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.epik.global.mail;
+
+import com.epik.support.JpaSliceTest;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EmailOutboxRelay + PooledJavaMailSender를 GreenMail SMTP 서버에 붙여 실제로 발송한다.
+ *
+ * 발송 스레드가 별도 트랜잭션으로 행을 가져가므로 테스트 트랜잭션 없이 커밋된 행을 쌓는다.
+ */
+@Slf4j
+@JpaSliceTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmailOutboxRelayTest {
+
+    private static final int MESSAGES = 500;
+    private static final String FROM = "noreply@epik.com";
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        emailOutboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("대기열에 쌓인 메일은 연결 풀을 통해 빠짐없이 한 번씩 도착한다")
+    void deliversEveryQueuedMessage() throws Exception {
+        List<EmailOutbox> queued = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            queued.add(EmailOutbox.create(new MailMessage("user" + i + "@epik.com", "제목 " + i, "<p>본문 " + i + "</p>")));
+        }
+        emailOutboxRepository.saveAll(queued);
+
+        PooledJavaMailSender mailSender = mailSender();
+        EmailOutboxRelay relay = new EmailOutboxRelay(emailOutboxRepository, mailSender, outboxProperties(),
+                transactionManager, meterRegistry, FROM);
+
+        long startedAt = System.nanoTime();
+        relay.start();
+        try {
+            assertThat(greenMail.waitForIncomingEmail(30_000, MESSAGES)).isTrue();
+            long elapsedNanos = System.nanoTime() - startedAt;
+
+            // 발송 결과(SENT)가 기록될 때까지 대기
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (sent() < MESSAGES && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            MimeMessage[] received = greenMail.getReceivedMessages();
+            Set<String> recipients = Arrays.stream(received)
+                    .map(EmailOutboxRelayTest::recipient)
+                    .collect(Collectors.toSet());
+            assertThat(received).hasSize(MESSAGES);
+            assertThat(recipients).hasSize(MESSAGES);
+            assertThat(sent()).isEqualTo(MESSAGES);
+            assertThat(emailOutboxRepository.findAll())
+                    .allMatch(outbox -> outbox.getStatus() == EmailOutboxStatus.SENT);
+
+            // 한 연결로 여러 통을 보내므로 연결 수는 풀 크기를 넘지 않는다
+            assertThat(meterRegistry.get("mail.smtp.connections.opened").counter().count()).isLessThanOrEqualTo(4.0);
+
+            double seconds = elapsedNanos / 1e9;
+            log.info("[MailOutbox] {}통 발송 {}ms - {}통/초", MESSAGES,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), String.format("%.0f", MESSAGES / seconds));
+        } finally {
+            relay.stop();
+            mailSender.destroy();
+        }
+    }
+
+    private PooledJavaMailSender mailSender() {
+        PooledJavaMailSender sender = new PooledJavaMailSender(
+                new MailTransportPoolProperties(true, 4, Duration.ofSeconds(10), Duration.ofSeconds(60),
+                        Duration.ofSeconds(10), 100),
+                meterRegistry);
+        sender.setHost(greenMail.getSmtp().getBindTo());
+        sender.setPort(greenMail.getSmtp().getPort());
+        return sender;
+    }
+
+    private static EmailOutboxProperties outboxProperties() {
+        return new EmailOutboxProperties(4, 50, Duration.ofMillis(50), Duration.ofMinutes(5), 5,
+                Duration.ofSeconds(10), Duration.ofMinutes(10), Duration.ofDays(7), Duration.ofSeconds(10));
+    }
+
+    private double sent() {
+        return meterRegistry.get("mail.outbox.sent").counter().count();
+    }
+
+    private static String recipient(MimeMessage message) {
+        try {
+            return message.getAllRecipients()[0].toString();
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.epik.global.security.jwt;
+
+import com.epik.domain.auth.entity.enums.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccessTokenCacheTest {
+
+    private JwtProvider jwtProvider;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = mock(JwtProvider.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        // 토큰 문자열 "{userId}-{이름}"을 해당 사용자의 주체로 검증
+        when(jwtProvider.parseAccessToken(anyString())).thenAnswer(invocation -> {
+            String token = invocation.getArgument(0);
+            long userId = Long.parseLong(token.substring(0, token.indexOf('-')));
+            return new AuthenticatedPrincipal(userId, UserRole.ROLE_USER, Instant.now().plusSeconds(1800), token);
+        });
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 먼저 들어온 엔트리를 제거한다")
+    void evictsEldestEntry() {
+        AccessTokenCache cache = cache(2);
+
+        cache.getOrVerify("1-a");
+        cache.getOrVerify("1-b");
+        cache.getOrVerify("1-c");
+
+        assertThat(evictions()).isEqualTo(1.0);
+        cache.getOrVerify("1-a");
+        verify(jwtProvider, times(2)).parseAccessToken("1-a");
+        cache.getOrVerify("1-c");
+        verify(jwtProvider, times(1)).parseAccessToken("1-c");
+    }
+
+    @Test
+    @DisplayName("무효화 후 다시 들어온 키는 큐에 남은 이전 항목 때문에 제거되지 않는다")
+    void reinsertedKeyIsNotEvictedByStaleQueueEntry() {
+        AccessTokenCache cache = cache(2);
+
+        cache.getOrVerify("1-a");
+        cache.invalidate("1-a");
+        cache.getOrVerify("1-a");
+        cache.getOrVerify("1-b");
+
+        assertThat(evictions()).isEqualTo(0.0);
+        cache.getOrVerify("1-a");
+        cache.getOrVerify("1-b");
+        verify(jwtProvider, times(2)).parseAccessToken("1-a");
+        verify(jwtProvider, times(1)).parseAccessToken("1-b");
+    }
+
+    @Test
+    @DisplayName("무효화로 제거된 엔트리는 용량을 차지하지 않는다")
+    void invalidatedEntriesDoNotShrinkCapacity() {
+        AccessTokenCache cache = cache(3);
+
+        cache.getOrVerify("2-a");
+        cache.getOrVerify("1-b");
+        cache.invalidate("1-b");
+        cache.getOrVerify("2-c");
+        cache.getOrVerify("2-d");
+
+        assertThat(evictions()).isEqualTo(0.0);
+        cache.getOrVerify("2-a");
+        verify(jwtProvider, times(1)).parseAccessToken("2-a");
+        assertThat(meterRegistry.get("jwt.access_token.cache.size").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("무효화가 반복돼도 살아있는 엔트리는 제거되지 않는다")
+    void repeatedInvalidationKeepsLiveEntries() {
+        AccessTokenCache cache = cache(4);
+
+        for (int i = 0; i < 100; i++) {
+            cache.getOrVerify("1-" + i);
+            cache.invalidate("1-" + i);
+        }
+        cache.getOrVerify("2-live");
+
+        assertThat(evictions()).isEqualTo(0.0);
+        cache.getOrVerify("2-live");
+        verify(jwtProvider, times(1)).parseAccessToken("2-live");
+    }
+
+    private AccessTokenCache cache(int maximumSize) {
+        return new AccessTokenCache(jwtProvider, meterRegistry, true, maximumSize);
+    }
+
+    private double evictions() {
+        return meterRegistry.get("jwt.access_token.cache.evictions").functionCounter().count();
+    }
+}
@@ -0,0 +1,176 @@
+package com.epik.global.security.jwt;
+
+import com.epik.domain.auth.entity.enums.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccessTokenCodecTest {
+
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final byte[] secret = randomSecret();
+    private final SecretKey secretKey = Keys.hmacShaKeyFor(secret);
+    private final AccessTokenCodec codec = new AccessTokenCodec(secret);
+
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private final Instant expiresAt = now.plusSeconds(1800);
+
+    @Test
+    @DisplayName("코덱이 만든 토큰을 jjwt가 같은 값으로 검증한다")
+    void encodedTokenIsReadableByJjwt() {
+        String token = codec.encode(42L, UserRole.ROLE_ADMIN, now, expiresAt, "jti-1");
+
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+
+        assertThat(claims.getSubject()).isEqualTo("42");
+        assertThat(claims.get("role", String.class)).isEqualTo("ROLE_ADMIN");
+        assertThat(claims.getIssuedAt().toInstant()).isEqualTo(now);
+        assertThat(claims.getExpiration().toInstant()).isEqualTo(expiresAt);
+        assertThat(claims.getId()).isEqualTo("jti-1");
+    }
+
+    @Test
+    @DisplayName("jjwt가 같은 레이아웃으로 만든 토큰을 코덱이 같은 값으로 읽는다")
+    void jjwtTokenIsReadableByCodec() {
+        String token = Jwts.builder()
+                .subject("7")
+                .claim("role", UserRole.ROLE_USER.name())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(expiresAt))
+                .id("jti-2")
+                .signWith(secretKey, Jwts.SIG.HS256)
+                .compact();
+
+        AuthenticatedPrincipal principal = codec.decode(token);
+
+        assertThat(principal).isEqualTo(new AuthenticatedPrincipal(7L, UserRole.ROLE_USER, expiresAt, "jti-2"));
+    }
+
+    @Test
+    @DisplayName("코덱으로 만들고 코덱으로 읽으면 같은 값이 나온다")
+    void roundTrip() {
+        for (UserRole role : UserRole.values()) {
+            String token = codec.encode(0L, role, now, expiresAt, "a");
+            assertThat(codec.decode(token)).isEqualTo(new AuthenticatedPrincipal(0L, role, expiresAt, "a"));
+        }
+        String token = codec.encode(Long.MAX_VALUE / 10, UserRole.ROLE_USER, now, expiresAt, "6f1c9a0e-8d0b-4a55-9c36-2f7d1e0b9a11");
+        assertThat(codec.decode(token).userId()).isEqualTo(Long.MAX_VALUE / 10);
+    }
+
+    @Test
+    @DisplayName("서명을 변조하면 SignatureException")
+    void rejectsTamperedSignature() {
+        String token = codec.encode(1L, UserRole.ROLE_USER, now, expiresAt, "jti");
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char first = token.charAt(signatureStart);
+        String tampered = token.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A') + token.substring(signatureStart + 1);
+
+        assertThatThrownBy(() -> codec.decode(tampered)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("Payload를 변조하면 SignatureException")
+    void rejectsTamperedPayload() {
+        String token = codec.encode(1L, UserRole.ROLE_USER, now, expiresAt, "jti");
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("ROLE_USER", "ROLE_ADMIN");
+        String tampered = parts[0] + "." + BASE64URL.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+        assertThatThrownBy(() -> codec.decode(tampered)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰은 SignatureException")
+    void rejectsForeignKey() {
+        String token = new AccessTokenCodec(randomSecret()).encode(1L, UserRole.ROLE_USER, now, expiresAt, "jti");
+
+        assertThatThrownBy(() -> codec.decode(token)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("alg가 HS256이 아닌 헤더는 코덱이 처리하지 않는다 (jjwt로 위임)")
+    void delegatesOtherAlgorithms() {
+        String hs384 = Jwts.builder()
+                .subject("1")
+                .claim("role", UserRole.ROLE_USER.name())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(expiresAt))
+                .id("jti")
+                .signWith(Keys.hmacShaKeyFor(secret), Jwts.SIG.HS384)
+                .compact();
+        String none = BASE64URL.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.US_ASCII))
+                + "." + hs384.split("\\.")[1] + ".";
+
+        assertThat(codec.decode(hs384)).isNull();
+        assertThat(codec.decode(none)).isNull();
+    }
+
+    @Test
+    @DisplayName("base64url이 아닌 Payload는 처리하지 않고, 잘못된 서명 인코딩은 SignatureException")
+    void rejectsBadBase64() throws Exception {
+        String header = BASE64URL.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII));
+
+        // 서명은 올바르지만 Payload에 base64url 알파벳이 아닌 문자가 있는 경우
+        String badPayloadInput = header + ".eyJzdWIiOiIxIn0*";
+        String badPayload = badPayloadInput + "." + BASE64URL.encodeToString(sign(badPayloadInput));
+        assertThat(codec.decode(badPayload)).isNull();
+
+        // 서명 부분이 base64url이 아닌 경우
+        String token = codec.encode(1L, UserRole.ROLE_USER, now, expiresAt, "jti");
+        String badSignature = token.substring(0, token.length() - 1) + "*";
+        assertThatThrownBy(() -> codec.decode(badSignature)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("exp가 지난 토큰은 ExpiredJwtException")
+    void rejectsExpiredToken() {
+        String token = codec.encode(1L, UserRole.ROLE_USER, now.minusSeconds(3600), now.minusSeconds(1), "jti");
+
+        assertThatThrownBy(() -> codec.decode(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("고정 레이아웃이 아닌 Payload는 처리하지 않는다")
+    void delegatesUnknownLayout() throws Exception {
+        String header = BASE64URL.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII));
+        String payload = BASE64URL.encodeToString(
+                ("{\"role\":\"ROLE_USER\",\"sub\":\"1\",\"exp\":" + expiresAt.getEpochSecond() + "}")
+                        .getBytes(StandardCharsets.US_ASCII));
+        String signingInput = header + "." + payload;
+
+        assertThat(codec.decode(signingInput + "." + BASE64URL.encodeToString(sign(signingInput)))).isNull();
+        assertThat(codec.decode(null)).isNull();
+        assertThat(codec.decode("not-a-jwt")).isNull();
+    }
+
+    private byte[] sign(String signingInput) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+        return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static byte[] randomSecret() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+}
@@ -0,0 +1,101 @@
+package com.epik.global.security.jwt;
+
+import com.epik.domain.auth.entity.enums.UserRole;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtSigningKeyRingTest {
+
+    private static final long ACCESS_TOKEN_EXPIRATION = 1_800_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final String secret = randomSecret();
+
+    @Test
+    @DisplayName("ES256인데 keys가 없으면 임시 키를 명시적으로 허용하지 않는 한 시작에 실패한다")
+    void failsWithoutKeysUnlessEphemeralEnabled() {
+        assertThatThrownBy(() -> keyRing(new JwtSigningProperties("ES256", null, false, Duration.ofHours(24), null)))
+                .isInstanceOf(IllegalStateException.class);
+
+        JwtSigningKeyRing ephemeral = keyRing(new JwtSigningProperties("ES256", null, true, Duration.ofHours(24), null));
+        assertThat(ephemeral.currentSigningKey()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("ES256 모드에서는 전환 기한 전까지만 HS256 Access Token을 받는다")
+    void acceptsHs256OnlyUntilCutoff() {
+        JwtProvider hs256 = provider(new JwtSigningProperties("HS256", null, false, Duration.ofHours(24), null));
+        String hs256Token = hs256.createAccessToken(1L, UserRole.ROLE_USER).token();
+
+        JwtProvider noCutoff = provider(new JwtSigningProperties("ES256", null, true, Duration.ofHours(24), null));
+        assertThatThrownBy(() -> noCutoff.parseAccessToken(hs256Token)).isInstanceOf(JwtException.class);
+
+        JwtProvider pastCutoff = provider(new JwtSigningProperties("ES256", null, true, Duration.ofHours(24),
+                Instant.now().minusSeconds(1)));
+        assertThatThrownBy(() -> pastCutoff.parseAccessToken(hs256Token)).isInstanceOf(JwtException.class);
+
+        JwtProvider beforeCutoff = provider(new JwtSigningProperties("ES256", null, true, Duration.ofHours(24),
+                Instant.now().plusSeconds(3600)));
+        assertThat(beforeCutoff.parseAccessToken(hs256Token).userId()).isEqualTo(1L);
+
+        // ES256 토큰과 Register Token(HS256)은 그대로 동작
+        String es256Token = noCutoff.createAccessToken(2L, UserRole.ROLE_USER).token();
+        assertThat(noCutoff.parseAccessToken(es256Token).userId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("재평가에 실패하면 예외 없이 마지막 유효 키 집합을 유지하고 지표로 알린다")
+    void keepsLastValidKeySetWhenRotationFails() throws Exception {
+        Instant now = Instant.now();
+        JwtSigningProperties.Key expiring = ecKey("k1", now.minusSeconds(60), now.plusMillis(500));
+        JwtSigningKeyRing keyRing = keyRing(new JwtSigningProperties("ES256", List.of(expiring), false, Duration.ofHours(24), null));
+        assertThat(keyRing.currentSigningKey().kid()).isEqualTo("k1");
+
+        Thread.sleep(600);
+        keyRing.rotate();
+
+        assertThat(keyRing.currentSigningKey().kid()).isEqualTo("k1");
+        assertThat(meterRegistry.get("jwt.signing.degraded").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("jwt.signing.rotation_failures").counter().count()).isEqualTo(1.0);
+    }
+
+    private JwtSigningKeyRing keyRing(JwtSigningProperties properties) {
+        return new JwtSigningKeyRing(properties, meterRegistry, ACCESS_TOKEN_EXPIRATION);
+    }
+
+    private JwtProvider provider(JwtSigningProperties properties) {
+        return new JwtProvider(secret, ACCESS_TOKEN_EXPIRATION, 900_000L, new JwtSigningKeyRing(properties,
+                new SimpleMeterRegistry(), ACCESS_TOKEN_EXPIRATION));
+    }
+
+    private static JwtSigningProperties.Key ecKey(String kid, Instant activatesAt, Instant retiresAt) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        Base64.Encoder encoder = Base64.getEncoder();
+        return new JwtSigningProperties.Key(kid,
+                encoder.encodeToString(keyPair.getPrivate().getEncoded()),
+                encoder.encodeToString(keyPair.getPublic().getEncoded()),
+                activatesAt, retiresAt);
+    }
+
+    private static String randomSecret() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+        return Base64.getEncoder().encodeToString(secret);
+    }
+}
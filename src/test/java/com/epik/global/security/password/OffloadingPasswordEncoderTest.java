@@ -0,0 +1,176 @@
+package com.epik.global.security.password;
+
+import com.epik.global.exception.custom.RetryLaterException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffloadingPasswordEncoderTest {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(3);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final AtomicInteger encodeCalls = new AtomicInteger();
+
+    private OffloadingPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("해싱/검증을 전용 스레드에서 실행하고 대기/실행 시간을 기록한다")
+    void delegatesAndRecordsMetrics() {
+        encoder = encoder(new FakeEncoder(), 2, 4, Duration.ofSeconds(5));
+
+        String encoded = encoder.encode("password");
+
+        assertThat(encoded).isEqualTo("hashed:password");
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.get("auth.password_hashing.wait").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("auth.password_hashing.duration").timer().count()).isEqualTo(3);
+        assertThat(rejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차 있으면 기다리지 않고 RetryLaterException으로 거절한다")
+    void rejectsWhenQueueIsFull() throws Exception {
+        encoder = encoder(stallingEncoder(), 1, 1, Duration.ofSeconds(5));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        awaitQueueSize(1);
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> encoder.encode("third"))
+                .isInstanceOf(RetryLaterException.class)
+                .extracting("retryAfter").isEqualTo(RETRY_AFTER);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+        assertThat(rejected()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:second");
+    }
+
+    @Test
+    @DisplayName("timeout 안에 끝나지 않으면 거절하고, 대기열에 남은 작업은 실행하지 않는다")
+    void rejectsAfterTimeoutAndCancelsQueuedTask() throws Exception {
+        encoder = encoder(stallingEncoder(), 1, 1, Duration.ofMillis(100));
+
+        CompletableFuture<Void> running = CompletableFuture.runAsync(() ->
+                assertThatThrownBy(() -> encoder.encode("first")).isInstanceOf(RetryLaterException.class));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 실행 중인 작업 뒤에서 기다리다 timeout
+        assertThatThrownBy(() -> encoder.encode("second")).isInstanceOf(RetryLaterException.class);
+        running.get(5, TimeUnit.SECONDS);
+        assertThat(rejected()).isEqualTo(2.0);
+
+        release.countDown();
+        awaitIdle();
+        // 취소된 두 번째 작업은 실행되지 않는다
+        assertThat(encoder.encode("third")).isEqualTo("hashed:third");
+        assertThat(encodeCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("delegate가 던진 예외는 ExecutionException에서 꺼내 그대로 던진다")
+    void unwrapsDelegateException() {
+        PasswordEncoder failing = new FakeEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                throw new IllegalArgumentException("비밀번호가 너무 깁니다.");
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                throw new AssertionError("검증 실패");
+            }
+        };
+        encoder = encoder(failing, 1, 1, Duration.ofSeconds(5));
+
+        assertThatThrownBy(() -> encoder.encode("password"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("비밀번호가 너무 깁니다.");
+        assertThatThrownBy(() -> encoder.matches("password", "hash"))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("검증 실패");
+        assertThat(rejected()).isZero();
+    }
+
+    private OffloadingPasswordEncoder encoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout) {
+        return new OffloadingPasswordEncoder(delegate, threads, queueCapacity, timeout, RETRY_AFTER, meterRegistry);
+    }
+
+    /**
+     * release가 열릴 때까지 첫 번째 해싱을 붙잡는 encoder
+     */
+    private PasswordEncoder stallingEncoder() {
+        return new FakeEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                encodeCalls.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+    }
+
+    private void awaitQueueSize(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password_hashing.queue").gauge().value() < size && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((meterRegistry.get("auth.password_hashing.queue").gauge().value() > 0
+                || meterRegistry.get("auth.password_hashing.active").gauge().value() > 0)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double rejected() {
+        return meterRegistry.get("auth.password_hashing.rejected").counter().count();
+    }
+
+    private static class FakeEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.epik.support;
+
+import com.epik.EpikApplication;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * H2(MySQL 호환 모드) 위에서 엔티티/리포지토리만 올리는 슬라이스 테스트.
+ *
+ * EpikApplication의 @EnableFeignClients가 슬라이스에 없는 Feign 빈을 요구하므로
+ * 메인 클래스 대신 엔티티/리포지토리 스캔과 JPA Auditing만 가진 설정을 쓴다.
+ * 서비스는 테스트 클래스에서 @Import로 추가한다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaSliceTest.Config.class)
+public @interface JpaSliceTest {
+
+    @Configuration
+    @AutoConfigurationPackage(basePackageClasses = EpikApplication.class)
+    @EnableJpaAuditing
+    class Config {
+    }
+}